@@ -0,0 +1,134 @@
+package com.product_information.pim.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.product_information.pim.dto.response.CacheStatsResponse;
+import com.product_information.pim.dto.response.ProductResponse;
+import com.product_information.pim.event.BrandChangedEvent;
+import com.product_information.pim.event.CategoryChangedEvent;
+import com.product_information.pim.event.ProductChangedEvent;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Base for caches of assembled product responses. Entries are dropped after
+ * any committed write to the product, its attributes, images or quality row,
+ * and after a change to the brand or category whose name they carry, so
+ * readers never see data from a transaction that rolled back. Callers get
+ * their own copy of a cached response and may modify it.
+ */
+public abstract class AbstractProductResponseCache<K> {
+
+    private final String name;
+    private final Cache<K, ProductResponse> cache;
+
+    // Bumped on every invalidation so loads that raced with a write are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    protected AbstractProductResponseCache(String name, Caffeine<Object, Object> builder) {
+        this.name = name;
+        this.cache = builder
+                .removalListener((K key, ProductResponse response, RemovalCause cause) -> {
+                    if (key != null && response != null && cause != RemovalCause.REPLACED) {
+                        onRemoved(key, response);
+                    }
+                })
+                .build();
+    }
+
+    public ProductResponse get(K key, Function<K, ProductResponse> loader) {
+        ProductResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        long loadGeneration = generation.get();
+        ProductResponse loaded = loader.apply(key);
+        if (loadGeneration == generation.get()) {
+            cache.put(key, loaded);
+            onCached(key, loaded);
+            if (loadGeneration != generation.get()) {
+                cache.invalidate(key);
+            }
+            return copyOf(loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+        evict(new HashSet<>(event.getProductIds()));
+    }
+
+    // Brand and category writes are rare, so a scan over the cached values is acceptable
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBrandChanged(BrandChangedEvent event) {
+        generation.incrementAndGet();
+        evictIf(response -> event.getBrandId().equals(response.getBrandId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+        evictIf(response -> event.getCategoryId().equals(response.getCategoryId()));
+    }
+
+    /**
+     * Drops the entries of the given products. Implementations must not scan
+     * the whole cache, since this runs after every product write.
+     */
+    protected abstract void evict(Set<Integer> productIds);
+
+    /**
+     * Called after a response was stored under the key.
+     */
+    protected void onCached(K key, ProductResponse response) {
+    }
+
+    /**
+     * Called after the entry for the key was invalidated, evicted or expired.
+     */
+    protected void onRemoved(K key, ProductResponse response) {
+    }
+
+    protected Cache<K, ProductResponse> getCache() {
+        return cache;
+    }
+
+    private void evictIf(Predicate<ProductResponse> predicate) {
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    private static ProductResponse copyOf(ProductResponse response) {
+        return response.toBuilder()
+                .attributes(response.getAttributes() != null ? new LinkedHashMap<>(response.getAttributes()) : null)
+                .images(response.getImages() != null
+                        ? response.getImages().stream().map(image -> image.toBuilder().build()).collect(Collectors.toList())
+                        : null)
+                .quality(response.getQuality() != null ? response.getQuality().toBuilder().build() : null)
+                .build();
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
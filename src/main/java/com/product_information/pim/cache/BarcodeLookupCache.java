@@ -0,0 +1,53 @@
+package com.product_information.pim.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.product_information.pim.dto.response.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-cache of assembled product responses keyed by barcode, bounded by
+ * size and time to live. A reverse index from product id to barcode lets
+ * product writes evict their entry without scanning the cache.
+ */
+@Component
+public class BarcodeLookupCache extends AbstractProductResponseCache<String> {
+
+    private final Map<Integer, String> barcodesByProductId = new ConcurrentHashMap<>();
+
+    public BarcodeLookupCache(
+            @Value("${pim.cache.barcode.maximum-size:10000}") long maximumSize,
+            @Value("${pim.cache.barcode.ttl:5m}") Duration ttl) {
+        super("barcode-lookup", Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+    }
+
+    @Override
+    protected void evict(Set<Integer> productIds) {
+        for (Integer productId : productIds) {
+            String barcode = barcodesByProductId.remove(productId);
+            if (barcode != null) {
+                getCache().invalidate(barcode);
+            }
+        }
+    }
+
+    @Override
+    protected void onCached(String barcode, ProductResponse response) {
+        barcodesByProductId.put(response.getId(), barcode);
+    }
+
+    @Override
+    protected void onRemoved(String barcode, ProductResponse response) {
+        // Kept when the barcode was cached again in the meantime
+        barcodesByProductId.computeIfPresent(response.getId(), (id, current) ->
+                current.equals(barcode) && !getCache().asMap().containsKey(barcode) ? null : current);
+    }
+}
@@ -0,0 +1,43 @@
+package com.product_information.pim.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.product_information.pim.dto.response.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Cache of assembled product responses keyed by product id. Bounded by
+ * weight, where a product weighs one unit plus one per attribute and image.
+ */
+@Component
+public class ProductResponseCache extends AbstractProductResponseCache<Integer> {
+
+    public ProductResponseCache(
+            @Value("${pim.cache.product.maximum-weight:200000}") long maximumWeight,
+            @Value("${pim.cache.product.ttl:10m}") Duration ttl) {
+        super("product-response", Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Object id, Object response) -> weigh((ProductResponse) response))
+                .expireAfterWrite(ttl)
+                .recordStats());
+    }
+
+    @Override
+    protected void evict(Set<Integer> productIds) {
+        getCache().invalidateAll(productIds);
+    }
+
+    private static int weigh(ProductResponse response) {
+        int weight = 1;
+        if (response.getAttributes() != null) {
+            weight += response.getAttributes().size();
+        }
+        if (response.getImages() != null) {
+            weight += response.getImages().size();
+        }
+        return weight;
+    }
+}
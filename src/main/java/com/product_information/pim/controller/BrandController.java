@@ -14,6 +14,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -53,13 +54,19 @@ public class BrandController {
     @GetMapping
     public ResponseEntity<?> getAll(
             @RequestParam(required = false, defaultValue = "false") boolean paginated,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
+        String eTag = brandService.getVersionTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         if (paginated) {
             Page<BrandResponse> page = brandService.getAll(pageable);
-            return ResponseEntity.ok(new PageResponse<>(page));
+            return ResponseEntity.ok().eTag(eTag).body(new PageResponse<>(page));
         } else {
             List<BrandResponse> list = brandService.getAll();
-            return ResponseEntity.ok(new ApiResponse<>(list));
+            return ResponseEntity.ok().eTag(eTag).body(new ApiResponse<>(list));
         }
     }
 
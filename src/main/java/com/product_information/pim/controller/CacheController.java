@@ -0,0 +1,28 @@
+package com.product_information.pim.controller;
+
+import com.product_information.pim.cache.AbstractProductResponseCache;
+import com.product_information.pim.dto.response.ApiResponse;
+import com.product_information.pim.dto.response.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final List<AbstractProductResponseCache<?>> caches;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getStats() {
+        List<CacheStatsResponse> list = caches.stream()
+                .map(AbstractProductResponseCache::getStats)
+                .toList();
+        return ResponseEntity.ok(new ApiResponse<>(list));
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -53,25 +54,35 @@ public class CategoryController {
     @GetMapping
     public ResponseEntity<?> getAll(
             @RequestParam(required = false, defaultValue = "false") boolean paginated,
+            @RequestParam(defaultValue = "direct") String countMode,
             @PageableDefault(size = 20) Pageable pageable) {
         if (paginated) {
-            Page<CategoryResponse> page = categoryService.getAll(pageable);
+            Page<CategoryResponse> page = categoryService.getAll(pageable, countMode);
             return ResponseEntity.ok(new PageResponse<>(page));
         } else {
-            List<CategoryResponse> list = categoryService.getAll();
+            List<CategoryResponse> list = categoryService.getAll(countMode);
             return ResponseEntity.ok(new ApiResponse<>(list));
         }
     }
 
     @GetMapping("/root")
-    public ResponseEntity<ApiResponse<CategoryResponse>> getRootCategories() {
-        List<CategoryResponse> list = categoryService.getRootCategories();
+    public ResponseEntity<ApiResponse<CategoryResponse>> getRootCategories(
+            @RequestParam(defaultValue = "direct") String countMode) {
+        List<CategoryResponse> list = categoryService.getRootCategories(countMode);
         return ResponseEntity.ok(new ApiResponse<>(list));
     }
 
     @GetMapping("/{id}/subcategories")
-    public ResponseEntity<ApiResponse<CategoryResponse>> getSubCategories(@PathVariable Integer id) {
-        List<CategoryResponse> list = categoryService.getSubCategories(id);
+    public ResponseEntity<ApiResponse<CategoryResponse>> getSubCategories(
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "direct") String countMode) {
+        List<CategoryResponse> list = categoryService.getSubCategories(id, countMode);
+        return ResponseEntity.ok(new ApiResponse<>(list));
+    }
+
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<ApiResponse<CategoryResponse>> getAncestors(@PathVariable Integer id) {
+        List<CategoryResponse> list = categoryService.getAncestors(id);
         return ResponseEntity.ok(new ApiResponse<>(list));
     }
 
@@ -82,9 +93,14 @@ public class CategoryController {
     }
 
     @GetMapping("/tree")
-    public ResponseEntity<ApiResponse<CategoryResponse>> getFullCategoryTree() {
+    public ResponseEntity<ApiResponse<CategoryResponse>> getFullCategoryTree(WebRequest webRequest) {
+        String eTag = categoryService.getTreeVersionTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<CategoryResponse> list = categoryService.getCategoryTree();
-        return ResponseEntity.ok(new ApiResponse<>(list));
+        return ResponseEntity.ok().eTag(eTag).body(new ApiResponse<>(list));
     }
 
     @PatchMapping("/{id}/reorder")
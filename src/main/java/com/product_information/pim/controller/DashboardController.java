@@ -1,21 +1,30 @@
 package com.product_information.pim.controller;
 
+import com.product_information.pim.dto.request.ProductExportOptions;
 import com.product_information.pim.dto.response.DashboardStatsResponse;
 import com.product_information.pim.dto.response.ProductResponse;
+import com.product_information.pim.enums.ExportFormat;
 import com.product_information.pim.service.DashboardService;
+import com.product_information.pim.service.ProductExportService;
 import com.product_information.pim.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
 
+    private static final MediaType GZIP_MEDIA_TYPE = MediaType.parseMediaType("application/gzip");
+
     private final DashboardService dashboardService;
+    private final ProductExportService productExportService;
     private final ProductService productService;
 
     @GetMapping("/stats")
@@ -31,25 +40,36 @@ public class DashboardController {
     }
 
     @GetMapping("/products/export")
-    public ResponseEntity<String> exportProducts(
-            @RequestParam(defaultValue = "json") String format) {
-        String content;
-        MediaType mediaType;
-        String filename;
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "false") boolean names,
+            @RequestParam(defaultValue = "false") boolean attributes) {
+        ProductExportOptions options = ProductExportOptions.builder()
+                .format(parseFormat(format))
+                .gzip(gzip)
+                .includeNames(names)
+                .includeAttributes(attributes)
+                .build();
 
-        if ("csv".equalsIgnoreCase(format)) {
-            content = dashboardService.exportProductsToCsv();
-            mediaType = MediaType.parseMediaType("text/csv");
-            filename = "products.csv";
-        } else {
-            content = dashboardService.exportProductsToJson();
-            mediaType = MediaType.APPLICATION_JSON;
-            filename = "products.json";
-        }
+        String filename = "products." + options.getFormat().name().toLowerCase(Locale.ROOT) + (gzip ? ".gz" : "");
+        MediaType mediaType = gzip ? GZIP_MEDIA_TYPE : MediaType.parseMediaType(options.getFormat().getMediaType());
 
+        StreamingResponseBody body = outputStream -> productExportService.export(options, outputStream);
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
                 .contentType(mediaType)
-                .body(content);
+                .body(body);
+    }
+
+    // Unknown formats fall back to JSON, as before
+    private ExportFormat parseFormat(String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ExportFormat.CSV;
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ExportFormat.NDJSON;
+        }
+        return ExportFormat.JSON;
     }
 }
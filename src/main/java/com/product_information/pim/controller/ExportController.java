@@ -0,0 +1,60 @@
+package com.product_information.pim.controller;
+
+import com.product_information.pim.dto.request.ExportJobRequest;
+import com.product_information.pim.dto.response.ExportJobResponse;
+import com.product_information.pim.exception.ResourceNotFoundException;
+import com.product_information.pim.service.ExportJobService;
+import com.product_information.pim.util.FileTransferUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType GZIP_MEDIA_TYPE = MediaType.parseMediaType("application/gzip");
+
+    private final ExportJobService exportJobService;
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> submit(@Valid @RequestBody ExportJobRequest request) {
+        ExportJobResponse response = exportJobService.submit(request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobResponse> getJob(@PathVariable String id) {
+        ExportJobResponse response = exportJobService.getJob(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/file")
+    public void download(@PathVariable String id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ExportJobResponse job = exportJobService.getJob(id);
+        Path file = exportJobService.getFile(id);
+        MediaType mediaType = job.isGzip() ? GZIP_MEDIA_TYPE : MediaType.parseMediaType(job.getFormat().getMediaType());
+        try {
+            FileTransferUtil.send(file, mediaType, request, response);
+        } catch (NoSuchFileException e) {
+            // Removed by the retention cleanup after the job was looked up
+            throw new ResourceNotFoundException("Export file for job " + id + " is no longer available");
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        exportJobService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,29 +1,55 @@
 package com.product_information.pim.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product_information.pim.dto.request.BulkStatusUpdateRequest;
 import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.dto.request.ProductFieldSelection;
+import com.product_information.pim.dto.request.ProductSearchCriteria;
 import com.product_information.pim.dto.request.ProductUpdateRequest;
 import com.product_information.pim.dto.response.ApiResponse;
+import com.product_information.pim.dto.response.BulkStatusUpdateResponse;
+import com.product_information.pim.dto.response.FacetedPageResponse;
 import com.product_information.pim.dto.response.PageResponse;
+import com.product_information.pim.dto.response.ProductImportResponse;
+import com.product_information.pim.dto.response.ProductUpsertResponse;
 import com.product_information.pim.dto.response.ProductResponse;
 import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.exception.BusinessException;
+import com.product_information.pim.service.ProductFacetService;
+import com.product_information.pim.service.ProductImportService;
 import com.product_information.pim.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final String ATTRIBUTE_PARAM_PREFIX = "attr.";
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+
     private final ProductService productService;
+    private final ProductFacetService productFacetService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ProductResponse> create(@Valid @RequestBody ProductCreateRequest request) {
@@ -31,6 +57,26 @@ public class ProductController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = {CSV_MEDIA_TYPE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportResponse> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        ProductImportResponse response = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? productImportService.importNdjson(body)
+                : productImportService.importCsv(body);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/upsert", consumes = {CSV_MEDIA_TYPE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductUpsertResponse> upsertProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        ProductUpsertResponse response = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? productImportService.upsertNdjson(body)
+                : productImportService.upsertCsv(body);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> update(
             @PathVariable Integer id,
@@ -40,9 +86,14 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getById(@PathVariable Integer id) {
+    public ResponseEntity<ProductResponse> getById(@PathVariable Integer id, WebRequest webRequest) {
+        String eTag = productService.getVersionTag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ProductResponse response = productService.getById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     @GetMapping("/barcode/{barcode}")
@@ -54,7 +105,20 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<?> getAll(
             @RequestParam(required = false, defaultValue = "false") boolean paginated,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (fields != null) {
+            ProductFieldSelection selection = parseFields(fields, cursor);
+            if (paginated) {
+                return ResponseEntity.ok(new PageResponse<>(productService.getAll(pageable, selection)));
+            }
+            return ResponseEntity.ok(new ApiResponse<>(productService.getAll(selection)));
+        }
+        // An empty cursor parameter requests the first keyset page
+        if (cursor != null) {
+            return ResponseEntity.ok(productService.getAllByCursor(cursor, pageable.getPageSize()));
+        }
         if (paginated) {
             Page<ProductResponse> page = productService.getAll(pageable);
             return ResponseEntity.ok(new PageResponse<>(page));
@@ -64,15 +128,58 @@ public class ProductController {
         }
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream -> productService.streamAll(product -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(product));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<PageResponse<ProductResponse>> search(
+    public ResponseEntity<?> search(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) ProductStatus status,
             @RequestParam(required = false) Integer categoryId,
+            @RequestParam(required = false, defaultValue = "false") boolean includeDescendants,
             @RequestParam(required = false) Integer brandId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<String> facets,
+            @RequestParam(required = false) String fields,
+            @RequestParam Map<String, String> params,
             @PageableDefault(size = 20) Pageable pageable) {
-        Page<ProductResponse> page = productService.searchWithFilters(
-                keyword, status, categoryId, brandId, pageable);
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder()
+                .keyword(keyword)
+                .status(status)
+                .categoryId(categoryId)
+                .includeDescendants(includeDescendants)
+                .brandId(brandId)
+                .attributes(extractAttributeFilters(params))
+                .build();
+        if (fields != null) {
+            Page<Map<String, Object>> page = productService.search(criteria, pageable, parseFields(fields, cursor));
+            if (facets != null && !facets.isEmpty()) {
+                return ResponseEntity.ok(new FacetedPageResponse<>(page, productFacetService.getFacets(criteria, facets)));
+            }
+            return ResponseEntity.ok(new PageResponse<>(page));
+        }
+        if (cursor != null) {
+            if (facets != null && !facets.isEmpty()) {
+                throw new BusinessException("The facets parameter cannot be combined with cursor paging");
+            }
+            return ResponseEntity.ok(productService.searchByCursor(criteria, cursor, pageable.getPageSize()));
+        }
+        Page<ProductResponse> page = productService.search(criteria, pageable);
+        if (facets != null && !facets.isEmpty()) {
+            return ResponseEntity.ok(new FacetedPageResponse<>(page, productFacetService.getFacets(criteria, facets)));
+        }
         return ResponseEntity.ok(new PageResponse<>(page));
     }
 
@@ -84,9 +191,35 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatuses(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        BulkStatusUpdateResponse response = productService.updateStatuses(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
         productService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ProductFieldSelection parseFields(String fields, String cursor) {
+        if (cursor != null) {
+            throw new BusinessException("The fields parameter cannot be combined with cursor paging");
+        }
+        return ProductFieldSelection.parse(fields);
+    }
+
+    /**
+     * Collects attr.{key}={value} query parameters as attribute filters.
+     */
+    private Map<String, String> extractAttributeFilters(Map<String, String> params) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        params.forEach((name, value) -> {
+            if (name.startsWith(ATTRIBUTE_PARAM_PREFIX) && name.length() > ATTRIBUTE_PARAM_PREFIX.length()) {
+                attributes.put(name.substring(ATTRIBUTE_PARAM_PREFIX.length()), value);
+            }
+        });
+        return attributes;
+    }
 }
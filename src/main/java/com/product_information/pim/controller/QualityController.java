@@ -1,6 +1,8 @@
 package com.product_information.pim.controller;
 
+import com.product_information.pim.dto.response.QualityRescoreJobResponse;
 import com.product_information.pim.dto.response.QualityResponse;
+import com.product_information.pim.service.QualityRescoreService;
 import com.product_information.pim.service.QualityScoreService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 public class QualityController {
 
     private final QualityScoreService qualityScoreService;
+    private final QualityRescoreService qualityRescoreService;
 
     @PostMapping("/product/{productId}/run")
     public ResponseEntity<Void> runQualityControl(@PathVariable Integer productId) {
@@ -30,4 +33,22 @@ public class QualityController {
         QualityResponse response = qualityScoreService.getQualityByProductId(productId);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/rescore")
+    public ResponseEntity<QualityRescoreJobResponse> startRescore() {
+        QualityRescoreJobResponse response = qualityRescoreService.start();
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/rescore")
+    public ResponseEntity<QualityRescoreJobResponse> getRescoreProgress() {
+        QualityRescoreJobResponse response = qualityRescoreService.getLatest();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/rescore/cancel")
+    public ResponseEntity<QualityRescoreJobResponse> cancelRescore() {
+        QualityRescoreJobResponse response = qualityRescoreService.cancel();
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,26 @@
+package com.product_information.pim.dto.request;
+
+import com.product_information.pim.enums.ProductStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Status transition for many products, selected either by id or by the
+ * product search filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private ProductStatus status;
+
+    private List<Integer> ids;
+
+    private ProductSearchCriteria filter;
+}
@@ -0,0 +1,28 @@
+package com.product_information.pim.dto.request;
+
+import com.product_information.pim.enums.ExportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Catalog export to run in the background, optionally limited by the
+ * product search filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobRequest {
+
+    @NotNull(message = "Format is required")
+    private ExportFormat format;
+
+    private boolean gzip;
+
+    private boolean includeNames;
+
+    private boolean includeAttributes;
+
+    private ProductSearchCriteria filter;
+}
@@ -0,0 +1,28 @@
+package com.product_information.pim.dto.request;
+
+import com.product_information.pim.enums.ExportFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductExportOptions {
+
+    @Builder.Default
+    private ExportFormat format = ExportFormat.JSON;
+
+    private boolean gzip;
+
+    // Category and brand names next to their ids
+    private boolean includeNames;
+
+    // CSV: one attr.<key> column per attribute key; JSON: an attributes object
+    private boolean includeAttributes;
+
+    // Exports only the matching products when set
+    private ProductSearchCriteria filter;
+}
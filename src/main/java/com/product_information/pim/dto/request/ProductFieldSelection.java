@@ -0,0 +1,101 @@
+package com.product_information.pim.dto.request;
+
+import com.product_information.pim.exception.BusinessException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested through the fields query parameter, for example
+ * fields=id,barcode,title,status,quality.score. The product id is always
+ * returned.
+ */
+@Getter
+public class ProductFieldSelection {
+
+    public static final String ID = "id";
+    public static final String CATEGORY_ID = "categoryId";
+    public static final String CATEGORY_NAME = "categoryName";
+    public static final String BRAND_ID = "brandId";
+    public static final String BRAND_NAME = "brandName";
+    public static final String ATTRIBUTES = "attributes";
+    public static final String IMAGES = "images";
+    public static final String QUALITY = "quality";
+
+    // Response fields in ProductResponse order
+    public static final List<String> FIELDS = List.of(
+            ID, "barcode", CATEGORY_ID, CATEGORY_NAME, BRAND_ID, BRAND_NAME, "title", "description",
+            "status", "createdAt", "updatedAt", ATTRIBUTES, IMAGES, QUALITY);
+
+    // Fields read straight from product columns
+    private static final Set<String> COLUMNS = Set.of(
+            ID, "barcode", CATEGORY_ID, BRAND_ID, "title", "description", "status", "createdAt", "updatedAt");
+
+    private static final Set<String> QUALITY_FIELDS = Set.of("id", "score", "result", "createdAt", "updatedAt");
+
+    private final Set<String> fields;
+
+    // Empty when the whole quality section was requested
+    private final Set<String> qualityFields;
+
+    private ProductFieldSelection(Set<String> fields, Set<String> qualityFields) {
+        this.fields = fields;
+        this.qualityFields = qualityFields;
+    }
+
+    public static ProductFieldSelection parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        Set<String> qualityFields = new LinkedHashSet<>();
+        boolean wholeQuality = false;
+        selected.add(ID);
+
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.startsWith(QUALITY + ".")) {
+                String qualityField = name.substring(QUALITY.length() + 1);
+                if (!QUALITY_FIELDS.contains(qualityField)) {
+                    throw new BusinessException("Unknown field: " + name);
+                }
+                selected.add(QUALITY);
+                qualityFields.add(qualityField);
+            } else if (FIELDS.contains(name)) {
+                selected.add(name);
+                wholeQuality |= QUALITY.equals(name);
+            } else {
+                throw new BusinessException("Unknown field: " + name);
+            }
+        }
+
+        return new ProductFieldSelection(selected, wholeQuality ? Set.of() : qualityFields);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Product columns to select: the requested ones plus the foreign keys
+     * needed to resolve category and brand names.
+     */
+    public List<String> getColumnsToLoad() {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : FIELDS) {
+            if (COLUMNS.contains(field) && includes(field)) {
+                columns.add(field);
+            }
+        }
+        if (includes(CATEGORY_NAME)) {
+            columns.add(CATEGORY_ID);
+        }
+        if (includes(BRAND_NAME)) {
+            columns.add(BRAND_ID);
+        }
+        return new ArrayList<>(columns);
+    }
+}
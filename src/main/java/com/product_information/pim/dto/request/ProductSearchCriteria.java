@@ -0,0 +1,45 @@
+package com.product_information.pim.dto.request;
+
+import com.product_information.pim.enums.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCriteria {
+
+    private String keyword;
+
+    private ProductStatus status;
+
+    private Integer categoryId;
+
+    // Also match products in the descendants of categoryId
+    private boolean includeDescendants;
+
+    private Integer brandId;
+
+    private Map<String, String> attributes;
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    public boolean hasCategorySubtree() {
+        return categoryId != null && includeDescendants;
+    }
+
+    public boolean hasAttributes() {
+        return attributes != null && !attributes.isEmpty();
+    }
+
+    public boolean hasFilters() {
+        return hasKeyword() || status != null || categoryId != null || brandId != null || hasAttributes();
+    }
+}
@@ -0,0 +1,22 @@
+package com.product_information.pim.dto.response;
+
+import com.product_information.pim.enums.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private ProductStatus status;
+
+    // Existing products selected by the ids or filter; unknown ids are not counted
+    private Long matched;
+
+    // Products whose status actually changed
+    private Long updated;
+}
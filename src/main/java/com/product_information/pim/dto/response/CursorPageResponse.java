@@ -0,0 +1,17 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> data;
+    private Integer size;
+    private String nextCursor;
+    private Boolean hasNext;
+}
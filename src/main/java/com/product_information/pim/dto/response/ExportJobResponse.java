@@ -0,0 +1,42 @@
+package com.product_information.pim.dto.response;
+
+import com.product_information.pim.enums.ExportFormat;
+import com.product_information.pim.enums.ExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    private String id;
+
+    private ExportJobStatus status;
+
+    private ExportFormat format;
+
+    private boolean gzip;
+
+    private String filename;
+
+    private Long productCount;
+
+    private Long sizeBytes;
+
+    private String error;
+
+    // Set once the file is ready
+    private String downloadUrl;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+}
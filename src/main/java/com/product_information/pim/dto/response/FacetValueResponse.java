@@ -0,0 +1,17 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetValueResponse {
+
+    private String value;
+    private String label;
+    private Long count;
+}
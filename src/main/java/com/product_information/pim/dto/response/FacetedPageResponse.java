@@ -0,0 +1,30 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedPageResponse<T> {
+    private List<T> data;
+    private Long total;
+    private Integer page;
+    private Integer size;
+    private Integer totalPages;
+    private Map<String, List<FacetValueResponse>> facets;
+
+    public FacetedPageResponse(Page<T> page, Map<String, List<FacetValueResponse>> facets) {
+        this.data = page.getContent();
+        this.total = page.getTotalElements();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalPages = page.getTotalPages();
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,18 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+
+    // 1-based position of the record in the input, excluding a CSV header
+    private Long record;
+    private String barcode;
+    private String message;
+}
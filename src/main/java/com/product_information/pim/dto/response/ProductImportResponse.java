@@ -0,0 +1,22 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+
+    private Long received;
+    private Long imported;
+    private Long failed;
+
+    // Capped, so a broken file does not produce a response as large as the input
+    private List<ProductImportError> errors;
+}
@@ -0,0 +1,22 @@
+package com.product_information.pim.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductUpsertResponse {
+
+    private Long received;
+    private Long created;
+    private Long updated;
+    private Long unchanged;
+    private Long failed;
+    private List<ProductUpsertResult> results;
+}
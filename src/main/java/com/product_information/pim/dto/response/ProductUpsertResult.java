@@ -0,0 +1,21 @@
+package com.product_information.pim.dto.response;
+
+import com.product_information.pim.enums.UpsertOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductUpsertResult {
+
+    // 1-based position of the record in the input, excluding a CSV header
+    private Long record;
+    private String barcode;
+    private Integer productId;
+    private UpsertOutcome outcome;
+    private String message;
+}
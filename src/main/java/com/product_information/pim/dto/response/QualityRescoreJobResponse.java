@@ -0,0 +1,43 @@
+package com.product_information.pim.dto.response;
+
+import com.product_information.pim.enums.RescoreJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QualityRescoreJobResponse {
+
+    private Integer id;
+
+    private RescoreJobStatus status;
+
+    // Set while the job is still RUNNING but will stop as CANCELLED after its current window
+    private boolean cancelRequested;
+
+    // Checkpoint: products up to this id have been rescored
+    private Integer lastProductId;
+
+    private Long totalProducts;
+
+    private Long processedProducts;
+
+    private Double percentComplete;
+
+    // Measured since the job was started or last resumed in this process
+    private Double productsPerSecond;
+
+    private String error;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -27,7 +27,7 @@ public class ProductAttribute {
     @Column(columnDefinition = "TEXT")
     private String value;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", insertable = false, updatable = false)
     private Product product;
 }
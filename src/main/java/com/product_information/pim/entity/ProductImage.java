@@ -28,7 +28,7 @@ public class ProductImage {
     @Column(name = "\"order\"")
     private Integer order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", insertable = false, updatable = false)
     private Product product;
 }
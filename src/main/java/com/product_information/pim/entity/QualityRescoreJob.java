@@ -0,0 +1,52 @@
+package com.product_information.pim.entity;
+
+import com.product_information.pim.enums.RescoreJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Catalog-wide quality rescoring run. lastProductId is the checkpoint: every
+ * product with a lower or equal id has been rescored.
+ */
+@Entity
+@Table(name = "quality_rescore_job")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QualityRescoreJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RescoreJobStatus status;
+
+    @Column(name = "last_product_id", nullable = false)
+    private Integer lastProductId;
+
+    @Column(name = "total_products", nullable = false)
+    private Long totalProducts;
+
+    @Column(name = "processed_products", nullable = false)
+    private Long processedProducts;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.product_information.pim.enums;
+
+public enum CategoryCountMode {
+    // Products assigned to the category itself
+    DIRECT,
+    // Products in the category and all of its descendants
+    ROLLUP
+}
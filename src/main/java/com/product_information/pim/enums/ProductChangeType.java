@@ -0,0 +1,10 @@
+package com.product_information.pim.enums;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ATTRIBUTES,
+    IMAGES,
+    QUALITY
+}
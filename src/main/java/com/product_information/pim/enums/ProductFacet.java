@@ -0,0 +1,7 @@
+package com.product_information.pim.enums;
+
+public enum ProductFacet {
+    STATUS,
+    BRAND,
+    CATEGORY
+}
@@ -0,0 +1,6 @@
+package com.product_information.pim.enums;
+
+public enum QualityScoringMode {
+    SYNC,
+    ASYNC
+}
@@ -0,0 +1,8 @@
+package com.product_information.pim.enums;
+
+public enum RescoreJobStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
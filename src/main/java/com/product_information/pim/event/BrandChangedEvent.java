@@ -0,0 +1,16 @@
+package com.product_information.pim.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published whenever a brand is created, edited or deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BrandChangedEvent {
+
+    private final Integer brandId;
+}
@@ -0,0 +1,17 @@
+package com.product_information.pim.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published whenever a category is created, edited, reordered, moved or
+ * deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Integer categoryId;
+}
@@ -0,0 +1,27 @@
+package com.product_information.pim.event;
+
+import com.product_information.pim.enums.ProductChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by the write services whenever products or their children
+ * change. Listeners that keep derived state should react after commit.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private final Collection<Integer> productIds;
+
+    private final ProductChangeType type;
+
+    public static ProductChangedEvent of(Integer productId, ProductChangeType type) {
+        return new ProductChangedEvent(List.of(productId), type);
+    }
+}
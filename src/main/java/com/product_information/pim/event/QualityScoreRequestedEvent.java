@@ -0,0 +1,17 @@
+package com.product_information.pim.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published instead of scoring inline when pim.quality.mode=ASYNC. The
+ * product is queued for recomputation once the publishing transaction commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class QualityScoreRequestedEvent {
+
+    private final Integer productId;
+}
@@ -0,0 +1,162 @@
+package com.product_information.pim.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Closure table for the category hierarchy: one row per ancestor/descendant
+ * pair, including each category paired with itself at depth 0. Rows are
+ * removed with their category by the ON DELETE CASCADE foreign keys. Also
+ * hosts the set-based subtree deletes, which bypass the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryClosureRepository {
+
+    // Same definition as in schema.sql and migration.sql; the table has no entity for ddl-auto to create
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS category_closure (" +
+            "ancestor_id INTEGER NOT NULL, " +
+            "descendant_id INTEGER NOT NULL, " +
+            "depth INTEGER NOT NULL, " +
+            "PRIMARY KEY (ancestor_id, descendant_id), " +
+            "FOREIGN KEY (ancestor_id) REFERENCES category(id) ON DELETE CASCADE, " +
+            "FOREIGN KEY (descendant_id) REFERENCES category(id) ON DELETE CASCADE)";
+
+    private static final String CREATE_INDEX = "CREATE INDEX IF NOT EXISTS idx_category_closure_descendant " +
+            "ON category_closure(descendant_id, depth)";
+
+    private static final String INSERT_SELF =
+            "INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)";
+
+    private static final String INSERT_ANCESTORS = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, ?, depth + 1 FROM category_closure WHERE descendant_id = ?";
+
+    // Unlinks the subtree from its current ancestors, keeping the links inside it
+    private static final String DETACH_SUBTREE = "DELETE FROM category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?)";
+
+    private static final String ATTACH_SUBTREE = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM category_closure p CROSS JOIN category_closure s " +
+            "WHERE p.descendant_id = ? AND s.ancestor_id = ?";
+
+    private static final String REBUILD = "INSERT INTO category_closure (ancestor_id, descendant_id, depth) " +
+            "WITH RECURSIVE tree AS (" +
+            "SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM category " +
+            "UNION ALL " +
+            "SELECT t.ancestor_id, c.id, t.depth + 1 FROM tree t JOIN category c ON c.parent_category_id = t.descendant_id" +
+            ") SELECT ancestor_id, descendant_id, depth FROM tree";
+
+    private static final String SUBTREE_IDS = "SELECT descendant_id FROM category_closure WHERE ancestor_id = ?";
+
+    // Ancestors above the removed category move one level closer to its descendants
+    private static final String SHORTEN_PATHS = "UPDATE category_closure SET depth = depth - 1 " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ? AND depth > 0) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM category_closure WHERE descendant_id = ? AND depth > 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Links a new category below its parent, or as a root when parentId is null.
+     */
+    public void insertNode(Integer id, Integer parentId) {
+        jdbcTemplate.update(INSERT_SELF, id, id);
+        if (parentId != null) {
+            jdbcTemplate.update(INSERT_ANCESTORS, id, parentId);
+        }
+    }
+
+    /**
+     * Moves a category and its whole subtree below a new parent, or to the
+     * root when newParentId is null, in two statements.
+     */
+    public void moveSubtree(Integer id, Integer newParentId) {
+        jdbcTemplate.update(DETACH_SUBTREE, id, id);
+        if (newParentId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE, newParentId, id);
+        }
+    }
+
+    public boolean isAncestor(Integer ancestorId, Integer descendantId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM category_closure WHERE ancestor_id = ? AND descendant_id = ?)",
+                Boolean.class, ancestorId, descendantId));
+    }
+
+    /**
+     * @return the category and all of its descendants
+     */
+    public List<Integer> findDescendantIds(Integer id) {
+        return jdbcTemplate.queryForList(
+                "SELECT descendant_id FROM category_closure WHERE ancestor_id = ?", Integer.class, id);
+    }
+
+    /**
+     * @return the category's ancestors from the root down, without the category itself
+     */
+    public List<Integer> findAncestorIds(Integer id) {
+        return jdbcTemplate.queryForList(
+                "SELECT ancestor_id FROM category_closure WHERE descendant_id = ? AND depth > 0 ORDER BY depth DESC",
+                Integer.class, id);
+    }
+
+    /**
+     * Deletes a category with its whole subtree and unassigns their
+     * products, in two statements.
+     *
+     * @return ids of the products whose category was cleared
+     */
+    public List<Integer> deleteSubtree(Integer id) {
+        List<Integer> productIds = jdbcTemplate.queryForList(
+                "UPDATE product SET category_id = NULL WHERE category_id IN (" + SUBTREE_IDS + ") RETURNING id",
+                Integer.class, id);
+        jdbcTemplate.update("DELETE FROM category WHERE id IN (" + SUBTREE_IDS + ")", id);
+        return productIds;
+    }
+
+    /**
+     * Deletes a single category, handing its subcategories and products to
+     * its parent (or making them roots and unassigned when it has none), in
+     * four statements.
+     *
+     * @return ids of the products that were reassigned
+     */
+    public List<Integer> deleteAndReassign(Integer id, Integer parentId) {
+        List<Integer> productIds = jdbcTemplate.queryForList(
+                "UPDATE product SET category_id = ? WHERE category_id = ? RETURNING id", Integer.class, parentId, id);
+        jdbcTemplate.update("UPDATE category SET parent_category_id = ? WHERE parent_category_id = ?", parentId, id);
+        jdbcTemplate.update(SHORTEN_PATHS, id, id);
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", id);
+        return productIds;
+    }
+
+    /**
+     * Creates the table and its index on databases where migration.sql has
+     * not been run.
+     */
+    public void createTableIfMissing() {
+        jdbcTemplate.execute(CREATE_TABLE);
+        jdbcTemplate.execute(CREATE_INDEX);
+    }
+
+    /**
+     * @return number of categories without their depth-0 row
+     */
+    public long countMissingNodes() {
+        Long missing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category c WHERE NOT EXISTS " +
+                "(SELECT 1 FROM category_closure cc WHERE cc.ancestor_id = c.id AND cc.descendant_id = c.id)", Long.class);
+        return missing != null ? missing : 0;
+    }
+
+    /**
+     * Recomputes every row from the parent links.
+     */
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM category_closure");
+        jdbcTemplate.update(REBUILD);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,8 @@ public interface ProductAttributeRepository extends JpaRepository<ProductAttribu
 
     List<ProductAttribute> findByProductId(Integer productId);
 
+    List<ProductAttribute> findByProductIdIn(Collection<Integer> productIds);
+
     Optional<ProductAttribute> findByProductIdAndKey(Integer productId, String key);
 
     List<ProductAttribute> findByKey(String key);
@@ -0,0 +1,113 @@
+package com.product_information.pim.repository;
+
+import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.repository.projection.ProductExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC reads for the catalog export. Products are read in id order
+ * in keyset chunks, with related data fetched per chunk rather than per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductExportRepository {
+
+    private static final String CHUNK_AFTER = "SELECT id FROM product WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String CHUNK_BY_IDS = "SELECT unnest(CAST(? AS integer[])) AS id";
+
+    // Child counts are aggregated for the chunk's products only, in the same query
+    private static final String SELECT_ROWS = "WITH chunk AS (%s) " +
+            "SELECT p.id, p.barcode, p.title, p.category_id, c.name AS category_name, " +
+            "p.brand_id, b.name AS brand_name, p.status, p.description, p.created_at, p.updated_at, " +
+            "COALESCE(a.attribute_count, 0) AS attribute_count, COALESCE(i.image_count, 0) AS image_count, q.score " +
+            "FROM chunk JOIN product p ON p.id = chunk.id " +
+            "LEFT JOIN category c ON c.id = p.category_id " +
+            "LEFT JOIN brand b ON b.id = p.brand_id " +
+            "LEFT JOIN (SELECT product_id, COUNT(*) AS attribute_count FROM product_attribute " +
+            "WHERE product_id IN (SELECT id FROM chunk) GROUP BY product_id) a ON a.product_id = p.id " +
+            "LEFT JOIN (SELECT product_id, COUNT(*) AS image_count FROM product_image " +
+            "WHERE product_id IN (SELECT id FROM chunk) GROUP BY product_id) i ON i.product_id = p.id " +
+            "LEFT JOIN quality q ON q.product_id = p.id " +
+            "ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProductExportRow> findRowsAfter(int afterId, int limit) {
+        return jdbcTemplate.query(SELECT_ROWS.formatted(CHUNK_AFTER), (rs, rowNum) -> mapRow(rs), afterId, limit);
+    }
+
+    public List<ProductExportRow> findRowsByIds(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ROWS.formatted(CHUNK_BY_IDS));
+            statement.setArray(1, connection.createArrayOf("integer", productIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> mapRow(rs));
+    }
+
+    public List<String> findAttributeKeys() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT key FROM product_attribute ORDER BY key", String.class);
+    }
+
+    /**
+     * @return attribute values by key, keyed by product id
+     */
+    public Map<Integer, Map<String, String>> findAttributeValues(Collection<Integer> productIds) {
+        Map<Integer, Map<String, String>> attributes = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return attributes;
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT product_id, key, value FROM product_attribute WHERE product_id = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("integer", productIds.toArray()));
+            return statement;
+        }, rs -> {
+            attributes.computeIfAbsent(rs.getInt("product_id"), id -> new LinkedHashMap<>())
+                    .put(rs.getString("key"), rs.getString("value"));
+        });
+        return attributes;
+    }
+
+    private static ProductExportRow mapRow(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        return new ProductExportRow(
+                rs.getInt("id"),
+                rs.getString("barcode"),
+                rs.getString("title"),
+                rs.getObject("category_id", Integer.class),
+                rs.getString("category_name"),
+                rs.getObject("brand_id", Integer.class),
+                rs.getString("brand_name"),
+                status != null ? ProductStatus.valueOf(status) : null,
+                rs.getString("description"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getInt("attribute_count"),
+                rs.getInt("image_count"),
+                rs.getObject("score", Integer.class));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,10 +15,16 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Inte
 
     List<ProductImage> findByProductIdOrderByOrderAsc(Integer productId);
 
+    List<ProductImage> findByProductIdInOrderByOrderAsc(Collection<Integer> productIds);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM ProductImage pi WHERE pi.productId = :productId")
     int deleteByProductId(Integer productId);
 
     long countByProductId(Integer productId);
+
+    // Rows of [productId, imageCount]; products without images are absent
+    @Query("SELECT pi.productId, COUNT(pi) FROM ProductImage pi WHERE pi.productId IN :productIds GROUP BY pi.productId")
+    List<Object[]> countByProductIdIn(Collection<Integer> productIds);
 }
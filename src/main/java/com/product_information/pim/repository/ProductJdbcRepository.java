@@ -0,0 +1,262 @@
+package com.product_information.pim.repository;
+
+import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.entity.Product;
+import com.product_information.pim.entity.ProductAttribute;
+import com.product_information.pim.entity.ProductImage;
+import com.product_information.pim.entity.Quality;
+import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.repository.projection.ProductDashboardState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC batch writes for bulk operations, bypassing the persistence
+ * context. Callers are responsible for publishing change events.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_PRODUCT = "INSERT INTO product " +
+            "(barcode, category_id, brand_id, title, description, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_PRODUCT = INSERT_PRODUCT + " ON CONFLICT (barcode) DO UPDATE SET " +
+            "category_id = EXCLUDED.category_id, brand_id = EXCLUDED.brand_id, title = EXCLUDED.title, " +
+            "description = EXCLUDED.description, status = EXCLUDED.status, updated_at = EXCLUDED.updated_at";
+
+    private static final String INSERT_ATTRIBUTE =
+            "INSERT INTO product_attribute (product_id, key, value) VALUES (?, ?, ?)";
+
+    private static final String INSERT_IMAGE =
+            "INSERT INTO product_image (product_id, image_url, alt_text, \"order\") VALUES (?, ?, ?, ?)";
+
+    private static final String UPSERT_QUALITY = "INSERT INTO quality " +
+            "(product_id, score, result, created_at, updated_at) VALUES (?, ?, CAST(? AS json), ?, ?) " +
+            "ON CONFLICT (product_id) DO UPDATE SET " +
+            "score = EXCLUDED.score, result = EXCLUDED.result, updated_at = EXCLUDED.updated_at";
+
+    private static final String SELECT_DASHBOARD_STATE = "SELECT p.id, p.status, " +
+            "EXISTS (SELECT 1 FROM product_image pi WHERE pi.product_id = p.id) AS has_images, " +
+            "EXISTS (SELECT 1 FROM product_attribute pa WHERE pa.product_id = p.id) AS has_attributes, " +
+            "q.score FROM product p LEFT JOIN quality q ON q.product_id = p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<String> findExistingBarcodes(Collection<String> barcodes) {
+        if (barcodes.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT barcode FROM product WHERE barcode = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("varchar", barcodes.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * Loads the product columns of the products with the given barcodes,
+     * as detached entities without associations.
+     */
+    public List<Product> findByBarcodes(Collection<String> barcodes) {
+        if (barcodes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, barcode, category_id, brand_id, title, description, status " +
+                            "FROM product WHERE barcode = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("varchar", barcodes.toArray()));
+            return statement;
+        }, (rs, rowNum) -> {
+            Product product = new Product();
+            product.setId(rs.getInt("id"));
+            product.setBarcode(rs.getString("barcode"));
+            product.setCategoryId(rs.getObject("category_id", Integer.class));
+            product.setBrandId(rs.getObject("brand_id", Integer.class));
+            product.setTitle(rs.getString("title"));
+            product.setDescription(rs.getString("description"));
+            String status = rs.getString("status");
+            product.setStatus(status != null ? ProductStatus.valueOf(status) : null);
+            return product;
+        });
+    }
+
+    public List<ProductDashboardState> findDashboardStates(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_DASHBOARD_STATE + " WHERE p.id = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("integer", productIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> mapDashboardState(rs));
+    }
+
+    /**
+     * Streams the dashboard state of every product. Runs in a read-only
+     * transaction so the driver fetches rows with a cursor.
+     */
+    @Transactional(readOnly = true)
+    public void streamDashboardStates(Consumer<ProductDashboardState> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_DASHBOARD_STATE);
+            statement.setFetchSize(BATCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapDashboardState(rs)));
+    }
+
+    /**
+     * Inserts the products and resolves their generated ids.
+     *
+     * @return generated product ids keyed by barcode
+     */
+    public Map<String, Integer> insertProducts(List<ProductCreateRequest> products) {
+        return writeProducts(INSERT_PRODUCT, products);
+    }
+
+    /**
+     * Inserts new products and overwrites the columns of existing ones,
+     * matched by barcode.
+     *
+     * @return product ids keyed by barcode
+     */
+    public Map<String, Integer> upsertProducts(List<ProductCreateRequest> products) {
+        return writeProducts(UPSERT_PRODUCT, products);
+    }
+
+    /**
+     * Sets the status of the given products, skipping those that already
+     * have it.
+     *
+     * @return ids of the products whose status changed
+     */
+    public List<Integer> updateStatus(Collection<Integer> productIds, ProductStatus status) {
+        if (productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE product SET status = ?, updated_at = ? " +
+                            "WHERE id = ANY (?) AND status IS DISTINCT FROM ? RETURNING id");
+            statement.setString(1, status.name());
+            statement.setTimestamp(2, now);
+            statement.setArray(3, connection.createArrayOf("integer", productIds.toArray()));
+            statement.setString(4, status.name());
+            return statement;
+        }, (rs, rowNum) -> rs.getInt(1));
+    }
+
+    public void deleteAttributesByProductIds(Collection<Integer> productIds) {
+        deleteByProductIds("DELETE FROM product_attribute WHERE product_id = ANY (?)", productIds);
+    }
+
+    public void deleteImagesByProductIds(Collection<Integer> productIds) {
+        deleteByProductIds("DELETE FROM product_image WHERE product_id = ANY (?)", productIds);
+    }
+
+    public void insertAttributes(List<ProductAttribute> attributes) {
+        jdbcTemplate.batchUpdate(INSERT_ATTRIBUTE, attributes, BATCH_SIZE, (statement, attribute) -> {
+            statement.setInt(1, attribute.getProductId());
+            statement.setString(2, attribute.getKey());
+            statement.setString(3, attribute.getValue());
+        });
+    }
+
+    public void insertImages(List<ProductImage> images) {
+        jdbcTemplate.batchUpdate(INSERT_IMAGE, images, BATCH_SIZE, (statement, image) -> {
+            statement.setInt(1, image.getProductId());
+            statement.setString(2, image.getImageUrl());
+            statement.setString(3, image.getAltText());
+            statement.setObject(4, image.getOrder(), Types.INTEGER);
+        });
+    }
+
+    public void upsertQualities(List<Quality> qualities) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_QUALITY, qualities, BATCH_SIZE, (statement, quality) -> {
+            statement.setInt(1, quality.getProductId());
+            statement.setInt(2, quality.getScore());
+            statement.setString(3, quality.getResult());
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+        });
+    }
+
+    private Map<String, Integer> writeProducts(String sql, List<ProductCreateRequest> products) {
+        if (products.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, products, BATCH_SIZE, (statement, product) -> {
+            statement.setString(1, product.getBarcode());
+            statement.setObject(2, product.getCategoryId(), Types.INTEGER);
+            statement.setObject(3, product.getBrandId(), Types.INTEGER);
+            statement.setString(4, product.getTitle());
+            statement.setString(5, product.getDescription());
+            statement.setString(6, product.getStatus() != null ? product.getStatus().name() : null);
+            statement.setTimestamp(7, now);
+            statement.setTimestamp(8, now);
+        });
+
+        Map<String, Integer> ids = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT id, barcode FROM product WHERE barcode = ANY (?)");
+            statement.setArray(1, connection.createArrayOf("varchar",
+                    products.stream().map(ProductCreateRequest::getBarcode).toArray()));
+            return statement;
+        }, rs -> {
+            ids.put(rs.getString("barcode"), rs.getInt("id"));
+        });
+        return ids;
+    }
+
+    private void deleteByProductIds(String sql, Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("integer", productIds.toArray()));
+            return statement;
+        });
+    }
+
+    private static ProductDashboardState mapDashboardState(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        return new ProductDashboardState(
+                rs.getInt("id"),
+                status != null ? ProductStatus.valueOf(status) : null,
+                rs.getBoolean("has_images"),
+                rs.getBoolean("has_attributes"),
+                rs.getObject("score", Integer.class));
+    }
+}
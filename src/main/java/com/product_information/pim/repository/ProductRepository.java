@@ -2,21 +2,53 @@ package com.product_information.pim.repository;
 
 import com.product_information.pim.entity.Product;
 import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.repository.projection.IdCount;
+import com.product_information.pim.repository.projection.ProductVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>, ProductRepositoryCustom {
 
         Optional<Product> findByBarcode(String barcode);
 
+        @Override
+        @EntityGraph(attributePaths = "quality")
+        List<Product> findAll();
+
+        @Override
+        @EntityGraph(attributePaths = "quality")
+        Page<Product> findAll(Pageable pageable);
+
+        @Query("SELECT p.id FROM Product p ORDER BY p.id ASC")
+        List<Integer> findAllIds();
+
+        @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+        List<Integer> findIdsAfter(@Param("afterId") Integer afterId, Limit limit);
+
+        @Query(value = "SELECT p.id FROM Product p", countQuery = "SELECT COUNT(p) FROM Product p")
+        Page<Integer> findIds(Pageable pageable);
+
+        @Query("SELECT p FROM Product p LEFT JOIN FETCH p.quality WHERE p.id IN :ids")
+        List<Product> findAllWithQualityByIdIn(@Param("ids") Collection<Integer> ids);
+
+        @EntityGraph(attributePaths = "quality")
         @Query("SELECT p FROM Product p WHERE " +
                         "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
                         "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -31,11 +63,64 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
                         @Param("brandId") Integer brandId,
                         Pageable pageable);
 
+        @EntityGraph(attributePaths = "quality")
+        @Query("SELECT p FROM Product p WHERE p.id > :afterId ORDER BY p.id ASC")
+        List<Product> findNextByIdAfter(@Param("afterId") Integer afterId, Limit limit);
+
+        @EntityGraph(attributePaths = "quality")
+        @Query("SELECT p FROM Product p WHERE p.id > :afterId AND " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.barcode) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:status IS NULL OR p.status = :status) AND " +
+                        "(:categoryId IS NULL OR p.categoryId = :categoryId) AND " +
+                        "(:brandId IS NULL OR p.brandId = :brandId) " +
+                        "ORDER BY p.id ASC")
+        List<Product> searchNextWithFilters(
+                        @Param("keyword") String keyword,
+                        @Param("status") ProductStatus status,
+                        @Param("categoryId") Integer categoryId,
+                        @Param("brandId") Integer brandId,
+                        @Param("afterId") Integer afterId,
+                        Limit limit);
+
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT p FROM Product p LEFT JOIN FETCH p.quality ORDER BY p.id ASC")
+        Stream<Product> streamAll();
+
+        @Query("SELECT p.updatedAt AS productUpdatedAt, q.updatedAt AS qualityUpdatedAt, " +
+                        "b.updatedAt AS brandUpdatedAt, c.updatedAt AS categoryUpdatedAt " +
+                        "FROM Product p LEFT JOIN p.quality q LEFT JOIN p.brand b LEFT JOIN p.category c " +
+                        "WHERE p.id = :id")
+        Optional<ProductVersion> findVersionById(@Param("id") Integer id);
+
+        // Bumps updated_at when only child rows (attributes, images) changed
+        @Modifying
+        @Query("UPDATE Product p SET p.updatedAt = :updatedAt WHERE p.id IN :ids")
+        int touchUpdatedAt(@Param("ids") Collection<Integer> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
         boolean existsByBarcode(String barcode);
 
         long countByStatus(ProductStatus status);
 
+        long countByIdIn(Collection<Integer> ids);
+
         long countByCategoryId(Integer categoryId);
 
+        @Query("SELECT p.categoryId AS id, COUNT(p) AS count FROM Product p " +
+                        "WHERE p.categoryId IS NOT NULL GROUP BY p.categoryId")
+        List<IdCount> countGroupedByCategoryId();
+
+        @Query("SELECT p.categoryId AS id, COUNT(p) AS count FROM Product p " +
+                        "WHERE p.categoryId IN :categoryIds GROUP BY p.categoryId")
+        List<IdCount> countGroupedByCategoryIdIn(@Param("categoryIds") Collection<Integer> categoryIds);
+
         long countByBrandId(Integer brandId);
+
+        @Query("SELECT p.brandId AS id, COUNT(p) AS count FROM Product p " +
+                        "WHERE p.brandId IN :brandIds GROUP BY p.brandId")
+        List<IdCount> countGroupedByBrandIdIn(@Param("brandIds") Collection<Integer> brandIds);
 }
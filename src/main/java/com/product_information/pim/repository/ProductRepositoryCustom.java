@@ -0,0 +1,55 @@
+package com.product_information.pim.repository;
+
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.enums.ProductFacet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Searches products by the full criteria, including attribute filters.
+     * Full-text results are ranked by relevance unless the pageable carries
+     * an explicit sort.
+     *
+     * @param fullText whether the keyword is matched against search_vector
+     *                 instead of substring LIKE
+     * @return page of matching product ids in result order
+     */
+    Page<Integer> searchIds(ProductSearchCriteria criteria, Pageable pageable, boolean fullText);
+
+    /**
+     * Searches products by the full criteria ordered by id, seeking past the
+     * given id.
+     *
+     * @return up to limit matching product ids
+     */
+    List<Integer> searchIdsAfter(ProductSearchCriteria criteria, int afterId, int limit, boolean fullText);
+
+    /**
+     * Counts matching products per value of each requested facet in a single
+     * GROUPING SETS aggregation. Products without a brand or category are
+     * not counted in those facets.
+     *
+     * @param fullText whether the keyword is matched against search_vector
+     *                 instead of substring LIKE
+     * @return counts keyed by facet, then by facet value
+     */
+    Map<ProductFacet, Map<String, Long>> countFacets(
+            ProductSearchCriteria criteria, Set<ProductFacet> facets, boolean fullText);
+
+    /**
+     * Selects only the given product columns for the given ids, without
+     * hydrating entities.
+     *
+     * @param columns Product attribute names, which must come from a fixed
+     *                whitelist since they are inlined into the query
+     * @return one row per found product, keyed by column name
+     */
+    List<Map<String, Object>> findColumnsByIdIn(Collection<Integer> ids, List<String> columns);
+}
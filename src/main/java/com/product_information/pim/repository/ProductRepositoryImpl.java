@@ -0,0 +1,256 @@
+package com.product_information.pim.repository;
+
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.enums.ProductFacet;
+import com.product_information.pim.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Native SQL search queries that cannot be expressed as derived or JPQL
+ * queries: full-text matching, attribute filters and facet aggregation.
+ * Only product ids are selected; callers load the entities. Also hosts the
+ * dynamic column projection used for sparse fieldsets.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final String TS_QUERY = "websearch_to_tsquery('simple', :keyword)";
+
+    private static final Map<ProductFacet, String> FACET_COLUMNS = Map.of(
+            ProductFacet.STATUS, "p.status",
+            ProductFacet.BRAND, "p.brand_id",
+            ProductFacet.CATEGORY, "p.category_id");
+
+    // Every sortable Product property the JPQL search accepted, including to-one paths
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "p.id"),
+            Map.entry("barcode", "p.barcode"),
+            Map.entry("categoryId", "p.category_id"),
+            Map.entry("brandId", "p.brand_id"),
+            Map.entry("title", "p.title"),
+            Map.entry("description", "p.description"),
+            Map.entry("status", "p.status"),
+            Map.entry("createdAt", "p.created_at"),
+            Map.entry("updatedAt", "p.updated_at"),
+            Map.entry("quality.id", qualityColumn("id")),
+            Map.entry("quality.productId", "p.id"),
+            Map.entry("quality.score", qualityColumn("score")),
+            Map.entry("quality.createdAt", qualityColumn("created_at")),
+            Map.entry("quality.updatedAt", qualityColumn("updated_at")),
+            Map.entry("category.id", "p.category_id"),
+            Map.entry("category.parentCategoryId", categoryColumn("parent_category_id")),
+            Map.entry("category.name", categoryColumn("name")),
+            Map.entry("category.description", categoryColumn("description")),
+            Map.entry("category.slug", categoryColumn("slug")),
+            Map.entry("category.order", categoryColumn("\"order\"")),
+            Map.entry("category.createdAt", categoryColumn("created_at")),
+            Map.entry("category.updatedAt", categoryColumn("updated_at")),
+            Map.entry("brand.id", "p.brand_id"),
+            Map.entry("brand.name", brandColumn("name")),
+            Map.entry("brand.slug", brandColumn("slug")),
+            Map.entry("brand.createdAt", brandColumn("created_at")),
+            Map.entry("brand.updatedAt", brandColumn("updated_at")));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Integer> searchIds(ProductSearchCriteria criteria, Pageable pageable, boolean fullText) {
+        Map<String, Object> params = new HashMap<>();
+        String where = buildWhere(criteria, params, fullText);
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT p.id FROM product p" + where + buildOrderBy(criteria, pageable.getSort(), fullText));
+        params.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Integer> ids = toIds(query.getResultList());
+
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM product p" + where);
+            params.forEach(countQuery::setParameter);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    @Override
+    public List<Integer> searchIdsAfter(ProductSearchCriteria criteria, int afterId, int limit, boolean fullText) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        String where = buildWhere(criteria, params, fullText) + " AND p.id > :afterId";
+
+        Query query = entityManager.createNativeQuery("SELECT p.id FROM product p" + where + " ORDER BY p.id ASC");
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return toIds(query.getResultList());
+    }
+
+    @Override
+    public Map<ProductFacet, Map<String, Long>> countFacets(
+            ProductSearchCriteria criteria, Set<ProductFacet> facets, boolean fullText) {
+        Map<ProductFacet, Map<String, Long>> result = new EnumMap<>(ProductFacet.class);
+        if (facets.isEmpty()) {
+            return result;
+        }
+
+        // Row layout: value and GROUPING() flag per facet, then the count
+        List<ProductFacet> ordered = new ArrayList<>(facets);
+        StringBuilder select = new StringBuilder("SELECT ");
+        StringBuilder groupingSets = new StringBuilder();
+        for (ProductFacet facet : ordered) {
+            String column = FACET_COLUMNS.get(facet);
+            select.append(column).append(", GROUPING(").append(column).append("), ");
+            groupingSets.append(groupingSets.length() > 0 ? ", " : "").append("(").append(column).append(")");
+            result.put(facet, new LinkedHashMap<>());
+        }
+        select.append("COUNT(*) FROM product p");
+
+        Map<String, Object> params = new HashMap<>();
+        Query query = entityManager.createNativeQuery(select + buildWhere(criteria, params, fullText)
+                + " GROUP BY GROUPING SETS (" + groupingSets + ")");
+        params.forEach(query::setParameter);
+
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            long count = ((Number) columns[columns.length - 1]).longValue();
+            for (int i = 0; i < ordered.size(); i++) {
+                Object value = columns[i * 2];
+                boolean grouped = ((Number) columns[i * 2 + 1]).intValue() == 0;
+                if (grouped && value != null) {
+                    result.get(ordered.get(i)).put(value.toString(), count);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Map<String, Object>> findColumnsByIdIn(Collection<Integer> ids, List<String> columns) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String select = columns.stream()
+                .map(column -> "p." + column)
+                .collect(Collectors.joining(", "));
+        List<Tuple> tuples = entityManager
+                .createQuery("SELECT " + select + " FROM Product p WHERE p.id IN :ids", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Builds the WHERE clause for the criteria. Only filters that are set
+     * are rendered, so no untyped null parameters reach PostgreSQL.
+     */
+    private String buildWhere(ProductSearchCriteria criteria, Map<String, Object> params, boolean fullText) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+
+        if (criteria.hasKeyword() && fullText) {
+            where.append(" AND p.search_vector @@ ").append(TS_QUERY);
+            params.put("keyword", criteria.getKeyword().trim());
+        } else if (criteria.hasKeyword()) {
+            where.append(" AND (LOWER(p.title) LIKE :likeKeyword OR LOWER(p.description) LIKE :likeKeyword")
+                    .append(" OR LOWER(p.barcode) LIKE :likeKeyword)");
+            params.put("likeKeyword", "%" + criteria.getKeyword().toLowerCase() + "%");
+        }
+        if (criteria.getStatus() != null) {
+            where.append(" AND p.status = :status");
+            params.put("status", criteria.getStatus().name());
+        }
+        if (criteria.hasCategorySubtree()) {
+            // Descendants come from the closure table in the same query, however many there are
+            where.append(" AND p.category_id IN (SELECT cc.descendant_id FROM category_closure cc")
+                    .append(" WHERE cc.ancestor_id = :categoryId)");
+            params.put("categoryId", criteria.getCategoryId());
+        } else if (criteria.getCategoryId() != null) {
+            where.append(" AND p.category_id = :categoryId");
+            params.put("categoryId", criteria.getCategoryId());
+        }
+        if (criteria.getBrandId() != null) {
+            where.append(" AND p.brand_id = :brandId");
+            params.put("brandId", criteria.getBrandId());
+        }
+        if (criteria.hasAttributes()) {
+            // Each key/value pair is an index-only lookup on idx_product_attribute_key_value
+            List<String> lookups = new ArrayList<>();
+            int i = 0;
+            for (Map.Entry<String, String> attribute : criteria.getAttributes().entrySet()) {
+                lookups.add("SELECT a.product_id FROM product_attribute a WHERE a.key = :attrKey" + i
+                        + " AND md5(a.value) = md5(:attrValue" + i + ") AND a.value = :attrValue" + i);
+                params.put("attrKey" + i, attribute.getKey());
+                params.put("attrValue" + i, attribute.getValue());
+                i++;
+            }
+            where.append(" AND p.id IN (").append(String.join(" INTERSECT ", lookups)).append(")");
+        }
+
+        return where.toString();
+    }
+
+    private String buildOrderBy(ProductSearchCriteria criteria, Sort sort, boolean fullText) {
+        if (sort.isUnsorted()) {
+            return criteria.hasKeyword() && fullText
+                    ? " ORDER BY ts_rank_cd(p.search_vector, " + TS_QUERY + ") DESC, p.id ASC"
+                    : " ORDER BY p.id ASC";
+        }
+
+        String orders = sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new BusinessException("Unsupported sort property: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", "));
+        return " ORDER BY " + orders + ", p.id ASC";
+    }
+
+    // Related columns are sorted on through scalar subqueries, so the id query needs no joins
+    private static String qualityColumn(String column) {
+        return "(SELECT q." + column + " FROM quality q WHERE q.product_id = p.id)";
+    }
+
+    private static String categoryColumn(String column) {
+        return "(SELECT c." + column + " FROM category c WHERE c.id = p.category_id)";
+    }
+
+    private static String brandColumn(String column) {
+        return "(SELECT b." + column + " FROM brand b WHERE b.id = p.brand_id)";
+    }
+
+    private List<Integer> toIds(List<?> rows) {
+        return rows.stream()
+                .map(row -> ((Number) row).intValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,8 @@ public interface QualityRepository extends JpaRepository<Quality, Integer> {
 
     Optional<Quality> findByProductId(Integer productId);
 
+    List<Quality> findByProductIdIn(Collection<Integer> productIds);
+
     @Query("SELECT q FROM Quality q WHERE q.score < :minScore")
     List<Quality> findLowQualityProducts(Integer minScore);
 
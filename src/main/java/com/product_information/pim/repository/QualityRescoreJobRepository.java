@@ -0,0 +1,16 @@
+package com.product_information.pim.repository;
+
+import com.product_information.pim.entity.QualityRescoreJob;
+import com.product_information.pim.enums.RescoreJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QualityRescoreJobRepository extends JpaRepository<QualityRescoreJob, Integer> {
+
+    Optional<QualityRescoreJob> findFirstByOrderByIdDesc();
+
+    Optional<QualityRescoreJob> findFirstByStatusOrderByIdDesc(RescoreJobStatus status);
+}
@@ -0,0 +1,11 @@
+package com.product_information.pim.repository.projection;
+
+/**
+ * Row of a GROUP BY count, such as products per category or brand.
+ */
+public interface IdCount {
+
+    Integer getId();
+
+    Long getCount();
+}
@@ -0,0 +1,10 @@
+package com.product_information.pim.repository.projection;
+
+import com.product_information.pim.enums.ProductStatus;
+
+/**
+ * What a single product contributes to the dashboard statistics.
+ */
+public record ProductDashboardState(Integer productId, ProductStatus status, boolean hasImages,
+        boolean hasAttributes, Integer qualityScore) {
+}
@@ -0,0 +1,14 @@
+package com.product_information.pim.repository.projection;
+
+import com.product_information.pim.enums.ProductStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Product columns written by the catalog export, with category and brand
+ * names, child counts and quality score joined in.
+ */
+public record ProductExportRow(Integer id, String barcode, String title, Integer categoryId, String categoryName,
+        Integer brandId, String brandName, ProductStatus status, String description, LocalDateTime createdAt,
+        LocalDateTime updatedAt, int attributeCount, int imageCount, Integer qualityScore) {
+}
@@ -0,0 +1,17 @@
+package com.product_information.pim.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modification timestamps of a product and the rows its response is built from.
+ */
+public interface ProductVersion {
+
+    LocalDateTime getProductUpdatedAt();
+
+    LocalDateTime getQualityUpdatedAt();
+
+    LocalDateTime getBrandUpdatedAt();
+
+    LocalDateTime getCategoryUpdatedAt();
+}
@@ -22,6 +22,8 @@ public interface BrandService {
 
     Page<BrandResponse> getAll(Pageable pageable);
 
+    String getVersionTag();
+
     Page<BrandResponse> search(String keyword, Pageable pageable);
 
     void delete(Integer id);
@@ -18,18 +18,32 @@ public interface CategoryService {
 
     CategoryResponse getBySlug(String slug);
 
-    List<CategoryResponse> getAll();
+    /**
+     * Lists all categories with their product counts
+     * 
+     * @param countMode "direct" (default) or "rollup" to include descendant categories
+     */
+    List<CategoryResponse> getAll(String countMode);
 
-    Page<CategoryResponse> getAll(Pageable pageable);
+    Page<CategoryResponse> getAll(Pageable pageable, String countMode);
 
-    List<CategoryResponse> getRootCategories();
+    List<CategoryResponse> getRootCategories(String countMode);
 
-    List<CategoryResponse> getSubCategories(Integer parentId);
+    List<CategoryResponse> getSubCategories(Integer parentId, String countMode);
+
+    /**
+     * Lists the ancestors of a category from the root down
+     * 
+     * @param id category id
+     */
+    List<CategoryResponse> getAncestors(Integer id);
 
     CategoryResponse getCategoryWithSubCategories(Integer id);
 
     List<CategoryResponse> getCategoryTree();
 
+    String getTreeVersionTag();
+
     CategoryResponse getCategoryTreeById(Integer id);
 
     void reorder(Integer categoryId, Integer newOrder);
@@ -4,8 +4,4 @@ import com.product_information.pim.dto.response.DashboardStatsResponse;
 
 public interface DashboardService {
     DashboardStatsResponse getDashboardStats();
-
-    String exportProductsToCsv();
-
-    String exportProductsToJson();
 }
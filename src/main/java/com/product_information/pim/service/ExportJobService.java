@@ -0,0 +1,40 @@
+package com.product_information.pim.service;
+
+import com.product_information.pim.dto.request.ExportJobRequest;
+import com.product_information.pim.dto.response.ExportJobResponse;
+
+import java.nio.file.Path;
+
+public interface ExportJobService {
+
+    /**
+     * Queue a catalog export that writes to a local file
+     * 
+     * @param request Format, filter and options
+     * @return ExportJobResponse
+     */
+    ExportJobResponse submit(ExportJobRequest request);
+
+    /**
+     * Get the status of an export job
+     * 
+     * @param id Job ID
+     * @return ExportJobResponse
+     */
+    ExportJobResponse getJob(String id);
+
+    /**
+     * Get the file of a completed export job
+     * 
+     * @param id Job ID
+     * @return Path of the export file
+     */
+    Path getFile(String id);
+
+    /**
+     * Forget an export job and delete its file
+     * 
+     * @param id Job ID
+     */
+    void delete(String id);
+}
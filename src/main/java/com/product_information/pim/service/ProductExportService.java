@@ -0,0 +1,19 @@
+package com.product_information.pim.service;
+
+import com.product_information.pim.dto.request.ProductExportOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ProductExportService {
+
+    /**
+     * Stream the catalog as CSV, a JSON array or NDJSON, chunk by chunk,
+     * to the given output stream
+     * 
+     * @param options      Format, filter, optional columns and compression
+     * @param outputStream Target stream; flushed after every chunk, not closed
+     * @return Number of products written
+     */
+    long export(ProductExportOptions options, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.product_information.pim.service;
+
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.dto.response.FacetValueResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductFacetService {
+
+    /**
+     * Count products matching the criteria per value of the requested facets
+     * (status, brand, category). Category counts are rolled up to ancestors.
+     *
+     * @param criteria    Current search filters
+     * @param facetNames  Requested facet names
+     * @return Facet values keyed by facet name
+     */
+    Map<String, List<FacetValueResponse>> getFacets(ProductSearchCriteria criteria, Collection<String> facetNames);
+}
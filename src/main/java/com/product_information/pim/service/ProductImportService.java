@@ -0,0 +1,38 @@
+package com.product_information.pim.service;
+
+import com.product_information.pim.dto.response.ProductImportResponse;
+import com.product_information.pim.dto.response.ProductUpsertResponse;
+
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    /**
+     * Import products from CSV. The header row names the columns: barcode,
+     * title, description, category id, brand id, status, images (URLs
+     * separated by |) and attr.{key} for attributes. Column names are
+     * matched case-insensitively, ignoring spaces and underscores, so the
+     * dashboard CSV export can be imported back.
+     */
+    ProductImportResponse importCsv(InputStream input);
+
+    /**
+     * Import products from newline-delimited JSON, one product create
+     * request per line
+     */
+    ProductImportResponse importNdjson(InputStream input);
+
+    /**
+     * Create or update products matched by barcode, from CSV in the import
+     * format. Empty values keep the current value of an existing product;
+     * a present attributes or images section replaces the current one.
+     * Rows whose content is unchanged are not written.
+     */
+    ProductUpsertResponse upsertCsv(InputStream input);
+
+    /**
+     * Create or update products matched by barcode, from newline-delimited
+     * JSON in the import format
+     */
+    ProductUpsertResponse upsertNdjson(InputStream input);
+}
@@ -1,13 +1,20 @@
 package com.product_information.pim.service;
 
+import com.product_information.pim.dto.request.BulkStatusUpdateRequest;
 import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.dto.request.ProductFieldSelection;
+import com.product_information.pim.dto.request.ProductSearchCriteria;
 import com.product_information.pim.dto.request.ProductUpdateRequest;
+import com.product_information.pim.dto.response.BulkStatusUpdateResponse;
+import com.product_information.pim.dto.response.CursorPageResponse;
 import com.product_information.pim.dto.response.ProductResponse;
 import com.product_information.pim.enums.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ProductService {
 
@@ -19,10 +26,18 @@ public interface ProductService {
 
     ProductResponse getByBarcode(String barcode);
 
+    String getVersionTag(Integer id);
+
     List<ProductResponse> getAll();
 
     Page<ProductResponse> getAll(Pageable pageable);
 
+    List<Map<String, Object>> getAll(ProductFieldSelection fields);
+
+    Page<Map<String, Object>> getAll(Pageable pageable, ProductFieldSelection fields);
+
+    void streamAll(Consumer<ProductResponse> consumer);
+
     Page<ProductResponse> searchWithFilters(
             String keyword,
             ProductStatus status,
@@ -30,7 +45,25 @@ public interface ProductService {
             Integer brandId,
             Pageable pageable);
 
+    Page<ProductResponse> search(ProductSearchCriteria criteria, Pageable pageable);
+
+    Page<Map<String, Object>> search(ProductSearchCriteria criteria, Pageable pageable, ProductFieldSelection fields);
+
+    CursorPageResponse<ProductResponse> getAllByCursor(String cursor, int size);
+
+    CursorPageResponse<ProductResponse> searchWithFiltersByCursor(
+            String keyword,
+            ProductStatus status,
+            Integer categoryId,
+            Integer brandId,
+            String cursor,
+            int size);
+
+    CursorPageResponse<ProductResponse> searchByCursor(ProductSearchCriteria criteria, String cursor, int size);
+
     void delete(Integer id);
 
     void updateStatus(Integer id, ProductStatus status);
+
+    BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request);
 }
@@ -0,0 +1,27 @@
+package com.product_information.pim.service;
+
+import com.product_information.pim.dto.response.QualityRescoreJobResponse;
+
+public interface QualityRescoreService {
+
+    /**
+     * Start rescoring every product in the catalog in the background
+     * 
+     * @return QualityRescoreJobResponse of the new job
+     */
+    QualityRescoreJobResponse start();
+
+    /**
+     * Get progress of the most recent rescoring job
+     * 
+     * @return QualityRescoreJobResponse
+     */
+    QualityRescoreJobResponse getLatest();
+
+    /**
+     * Stop the running job after its current chunks finish
+     * 
+     * @return QualityRescoreJobResponse
+     */
+    QualityRescoreJobResponse cancel();
+}
@@ -3,6 +3,8 @@ package com.product_information.pim.service;
 import com.product_information.pim.dto.response.QualityResponse;
 import com.product_information.pim.entity.Product;
 
+import java.util.Collection;
+
 public interface QualityScoreService {
 
     /**
@@ -20,6 +22,22 @@ public interface QualityScoreService {
      */
     void updateQualityScore(Integer productId);
 
+    /**
+     * Recompute the quality score after a product write, inline or queued
+     * after commit depending on pim.quality.mode
+     * 
+     * @param productId Product ID
+     */
+    void requestQualityScore(Integer productId);
+
+    /**
+     * Update quality scores for many products with one query per table and
+     * a single batched upsert
+     * 
+     * @param productIds Product IDs
+     */
+    void updateQualityScores(Collection<Integer> productIds);
+
     /**
      * Get quality by ID
      * 
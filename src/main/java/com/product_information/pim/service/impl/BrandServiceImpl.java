@@ -4,20 +4,24 @@ import com.product_information.pim.dto.request.BrandCreateRequest;
 import com.product_information.pim.dto.request.BrandUpdateRequest;
 import com.product_information.pim.dto.response.BrandResponse;
 import com.product_information.pim.entity.Brand;
+import com.product_information.pim.event.BrandChangedEvent;
 import com.product_information.pim.exception.DuplicateResourceException;
 import com.product_information.pim.exception.ResourceNotFoundException;
 import com.product_information.pim.mapper.BrandMapper;
 import com.product_information.pim.repository.BrandRepository;
 import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.repository.projection.IdCount;
 import com.product_information.pim.service.BrandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +33,8 @@ public class BrandServiceImpl implements BrandService {
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
     private final BrandMapper brandMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BrandVersionTracker brandVersionTracker;
 
     @Override
     public BrandResponse create(BrandCreateRequest request) {
@@ -40,6 +46,7 @@ public class BrandServiceImpl implements BrandService {
 
         Brand brand = brandMapper.toEntity(request);
         brand = brandRepository.save(brand);
+        eventPublisher.publishEvent(new BrandChangedEvent(brand.getId()));
 
         log.info("Brand created successfully with id: {}", brand.getId());
         return brandMapper.toResponse(brand, 0L);
@@ -60,6 +67,7 @@ public class BrandServiceImpl implements BrandService {
 
         brandMapper.updateEntity(brand, request);
         brand = brandRepository.save(brand);
+        eventPublisher.publishEvent(new BrandChangedEvent(id));
 
         Long productCount = productRepository.countByBrandId(id);
 
@@ -96,11 +104,10 @@ public class BrandServiceImpl implements BrandService {
     public List<BrandResponse> getAll() {
         log.info("Fetching all brands");
 
-        return brandRepository.findAll().stream()
-                .map(brand -> {
-                    Long productCount = productRepository.countByBrandId(brand.getId());
-                    return brandMapper.toResponse(brand, productCount);
-                })
+        List<Brand> brands = brandRepository.findAll();
+        Map<Integer, Long> productCounts = countProducts(brands);
+        return brands.stream()
+                .map(brand -> brandMapper.toResponse(brand, productCounts.getOrDefault(brand.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
@@ -109,11 +116,12 @@ public class BrandServiceImpl implements BrandService {
     public Page<BrandResponse> getAll(Pageable pageable) {
         log.info("Fetching all brands with pagination");
 
-        return brandRepository.findAll(pageable)
-                .map(brand -> {
-                    Long productCount = productRepository.countByBrandId(brand.getId());
-                    return brandMapper.toResponse(brand, productCount);
-                });
+        return toResponsePage(brandRepository.findAll(pageable));
+    }
+
+    @Override
+    public String getVersionTag() {
+        return brandVersionTracker.getVersionTag();
     }
 
     @Override
@@ -121,11 +129,7 @@ public class BrandServiceImpl implements BrandService {
     public Page<BrandResponse> search(String keyword, Pageable pageable) {
         log.info("Searching brands with keyword: {}", keyword);
 
-        return brandRepository.searchByKeyword(keyword, pageable)
-                .map(brand -> {
-                    Long productCount = productRepository.countByBrandId(brand.getId());
-                    return brandMapper.toResponse(brand, productCount);
-                });
+        return toResponsePage(brandRepository.searchByKeyword(keyword, pageable));
     }
 
     @Override
@@ -136,7 +140,22 @@ public class BrandServiceImpl implements BrandService {
                 .orElseThrow(() -> new ResourceNotFoundException("Brand", "id", id));
 
         brandRepository.delete(brand);
+        eventPublisher.publishEvent(new BrandChangedEvent(id));
 
         log.info("Brand deleted successfully with id: {}", id);
     }
+
+    private Page<BrandResponse> toResponsePage(Page<Brand> page) {
+        Map<Integer, Long> productCounts = countProducts(page.getContent());
+        return page.map(brand -> brandMapper.toResponse(brand, productCounts.getOrDefault(brand.getId(), 0L)));
+    }
+
+    // One grouped query for the whole list instead of a count per brand
+    private Map<Integer, Long> countProducts(List<Brand> brands) {
+        if (brands.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.countGroupedByBrandIdIn(brands.stream().map(Brand::getId).toList()).stream()
+                .collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
+    }
 }
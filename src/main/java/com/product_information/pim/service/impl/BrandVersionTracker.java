@@ -0,0 +1,44 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.event.BrandChangedEvent;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.util.ETagUtil;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of the brand list behind its ETag, bumped after each
+ * committed brand change and each product change that can move a brand's
+ * product count. Serving a 304 costs no query.
+ */
+@Component
+public class BrandVersionTracker {
+
+    private final AtomicLong version = new AtomicLong();
+
+    // Keeps ETags from two application instances from colliding
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBrandChanged(BrandChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangeType.CREATED
+                || event.getType() == ProductChangeType.UPDATED
+                || event.getType() == ProductChangeType.DELETED) {
+            version.incrementAndGet();
+        }
+    }
+
+    public String getVersionTag() {
+        return ETagUtil.of(instanceId, version.get());
+    }
+}
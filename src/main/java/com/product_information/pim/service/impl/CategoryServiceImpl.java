@@ -4,18 +4,29 @@ import com.product_information.pim.dto.request.CategoryCreateRequest;
 import com.product_information.pim.dto.request.CategoryUpdateRequest;
 import com.product_information.pim.dto.response.CategoryResponse;
 import com.product_information.pim.entity.Category;
+import com.product_information.pim.enums.CategoryCountMode;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.event.CategoryChangedEvent;
+import com.product_information.pim.event.ProductChangedEvent;
 import com.product_information.pim.exception.BusinessException;
 import com.product_information.pim.exception.DuplicateResourceException;
 import com.product_information.pim.exception.ResourceNotFoundException;
 import com.product_information.pim.mapper.CategoryMapper;
+import com.product_information.pim.repository.CategoryClosureRepository;
 import com.product_information.pim.repository.CategoryRepository;
 import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.repository.projection.IdCount;
 import com.product_information.pim.service.CategoryService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -30,6 +41,25 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryTreeSnapshot categoryTreeSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    /**
+     * Creates the closure table when it does not exist yet, and rebuilds it
+     * when categories were added without it, e.g. inserted directly into the
+     * database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyHierarchyIndex() {
+        categoryClosureRepository.createTableIfMissing();
+        long missing = categoryClosureRepository.countMissingNodes();
+        if (missing > 0) {
+            log.warn("Category closure table is missing {} categories, rebuilding it", missing);
+            categoryClosureRepository.rebuild();
+        }
+    }
 
     @Override
     public CategoryResponse create(CategoryCreateRequest request) {
@@ -48,6 +78,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category category = categoryMapper.toEntity(request);
         category = categoryRepository.save(category);
+        categoryClosureRepository.insertNode(category.getId(), category.getParentCategoryId());
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
 
         log.info("Category created successfully with id: {}", category.getId());
         return categoryMapper.toResponse(category, 0L);
@@ -76,8 +108,13 @@ public class CategoryServiceImpl implements CategoryService {
                                     ". Cannot move category to non-existent parent."));
         }
 
+        Integer previousParentId = category.getParentCategoryId();
         categoryMapper.updateEntity(category, request);
         category = categoryRepository.save(category);
+        if (!Objects.equals(previousParentId, category.getParentCategoryId())) {
+            categoryClosureRepository.moveSubtree(id, category.getParentCategoryId());
+        }
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         Long productCount = productRepository.countByCategoryId(id);
 
@@ -111,52 +148,60 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<CategoryResponse> getAll() {
-        log.info("Fetching all categories");
-
-        return categoryRepository.findAll().stream()
-                .map(category -> {
-                    Long productCount = productRepository.countByCategoryId(category.getId());
-                    return categoryMapper.toResponse(category, productCount);
-                })
+    public List<CategoryResponse> getAll(String countMode) {
+        log.info("Fetching all categories with count mode: {}", countMode);
+
+        List<Category> categories = categoryRepository.findAll();
+        Map<Integer, Long> productCounts = countProducts(categories, parseCountMode(countMode));
+        return categories.stream()
+                .map(category -> categoryMapper.toResponse(category, productCounts.getOrDefault(category.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<CategoryResponse> getAll(Pageable pageable) {
-        log.info("Fetching all categories with pagination");
-
-        return categoryRepository.findAll(pageable)
-                .map(category -> {
-                    Long productCount = productRepository.countByCategoryId(category.getId());
-                    return categoryMapper.toResponse(category, productCount);
-                });
+    public Page<CategoryResponse> getAll(Pageable pageable, String countMode) {
+        log.info("Fetching all categories with pagination and count mode: {}", countMode);
+
+        CategoryCountMode mode = parseCountMode(countMode);
+        Page<Category> page = categoryRepository.findAll(pageable);
+        Map<Integer, Long> productCounts = countProducts(page.getContent(), mode);
+        return page.map(category -> categoryMapper.toResponse(category,
+                productCounts.getOrDefault(category.getId(), 0L)));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<CategoryResponse> getRootCategories() {
-        log.info("Fetching root categories");
-
-        return categoryRepository.findRootCategories().stream()
-                .map(category -> {
-                    Long productCount = productRepository.countByCategoryId(category.getId());
-                    return categoryMapper.toResponse(category, productCount);
-                })
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CategoryResponse> getRootCategories(String countMode) {
+        log.info("Fetching root categories with count mode: {}", countMode);
+
+        return categoryTreeSnapshot.getRoots(parseCountMode(countMode) == CategoryCountMode.ROLLUP);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CategoryResponse> getSubCategories(Integer parentId, String countMode) {
+        log.info("Fetching subcategories for parent id: {} with count mode: {}", parentId, countMode);
+
+        return categoryTreeSnapshot.getChildren(parentId, parseCountMode(countMode) == CategoryCountMode.ROLLUP);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CategoryResponse> getSubCategories(Integer parentId) {
-        log.info("Fetching subcategories for parent id: {}", parentId);
-
-        return categoryRepository.findByParentCategoryId(parentId).stream()
-                .map(category -> {
-                    Long productCount = productRepository.countByCategoryId(category.getId());
-                    return categoryMapper.toResponse(category, productCount);
-                })
+    public List<CategoryResponse> getAncestors(Integer id) {
+        log.info("Fetching ancestors for category id: {}", id);
+
+        if (!categoryRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Category", "id", id);
+        }
+
+        List<Integer> ancestorIds = categoryClosureRepository.findAncestorIds(id);
+        Map<Integer, Category> ancestors = categoryRepository.findAllById(ancestorIds).stream()
+                .collect(Collectors.toMap(Category::getId, category -> category));
+        List<Category> path = ancestorIds.stream().map(ancestors::get).filter(Objects::nonNull).toList();
+        Map<Integer, Long> productCounts = countProducts(path, CategoryCountMode.DIRECT);
+        return path.stream()
+                .map(category -> categoryMapper.toResponse(category, productCounts.getOrDefault(category.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
@@ -180,57 +225,49 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
 
-        List<Category> subcategories = categoryRepository.findByParentCategoryOrderByOrderAsc(category);
-
-        if (!subcategories.isEmpty()) {
-            if ("reassign".equals(action)) {
-                Category newParent = category.getParentCategory();
-                for (Category sub : subcategories) {
-                    sub.setParentCategory(newParent);
-                    sub.setParentCategoryId(newParent != null ? newParent.getId() : null);
-                }
-                categoryRepository.saveAll(subcategories);
-                log.info("Reassigned {} subcategories to parent: {}", subcategories.size(), 
-                        newParent != null ? newParent.getId() : "root");
-            } else {
-                deleteRecursively(category);
-                log.info("Category and all subcategories deleted recursively with id: {}", id);
-                return;
-            }
+        // Set-based statements; the category entity is detached so Hibernate does not touch the rows again
+        entityManager.detach(category);
+
+        List<Integer> productIds;
+        if ("reassign".equals(action)) {
+            Integer newParentId = category.getParentCategoryId();
+            productIds = categoryClosureRepository.deleteAndReassign(id, newParentId);
+            log.info("Category deleted with id: {}, subcategories and {} products reassigned to parent: {}",
+                    id, productIds.size(), newParentId != null ? newParentId : "root");
+        } else {
+            productIds = categoryClosureRepository.deleteSubtree(id);
+            log.info("Category and all subcategories deleted with id: {}, {} products unassigned",
+                    id, productIds.size());
         }
 
-        categoryRepository.delete(category);
-        log.info("Category deleted successfully with id: {}", id);
-    }
-
-    private void deleteRecursively(Category category) {
-        List<Category> subcategories = categoryRepository.findByParentCategoryOrderByOrderAsc(category);
-        for (Category sub : subcategories) {
-            deleteRecursively(sub);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        if (!productIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProductChangedEvent(productIds, ProductChangeType.UPDATED));
         }
-        categoryRepository.delete(category);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CategoryResponse> getCategoryTree() {
         log.info("Fetching complete category tree");
 
-        List<Category> rootCategories = categoryRepository.findRootCategories();
-        return rootCategories.stream()
-                .map(this::buildCategoryTree)
-                .collect(Collectors.toList());
+        return categoryTreeSnapshot.getTree();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getTreeVersionTag() {
+        // Versioned by the snapshot the tree is served from, which also tracks product counts
+        return categoryTreeSnapshot.getVersionTag();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CategoryResponse getCategoryTreeById(Integer id) {
         log.info("Fetching category tree for id: {}", id);
 
-        Category category = categoryRepository.findById(id)
+        return categoryTreeSnapshot.getSubtree(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
-
-        return buildCategoryTree(category);
     }
 
     @Override
@@ -242,6 +279,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setOrder(newOrder);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("Category reordered successfully");
     }
@@ -269,57 +307,71 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setParentCategoryId(newParentId);
         categoryRepository.save(category);
+        categoryClosureRepository.moveSubtree(categoryId, newParentId);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("Category moved successfully");
     }
 
     /**
-     * Recursively builds category tree with all descendants
+     * Counts products for a list of categories with one grouped query. For a
+     * rollup the query covers every category in the listed subtrees, and the
+     * counts are summed per listed category.
      */
-    private CategoryResponse buildCategoryTree(Category category) {
-        Long productCount = productRepository.countByCategoryId(category.getId());
-        CategoryResponse response = categoryMapper.toResponse(category, productCount);
-
-        List<Category> children = categoryRepository.findByParentCategoryId(category.getId());
-        if (!children.isEmpty()) {
-            List<CategoryResponse> childResponses = children.stream()
-                    .sorted(Comparator.comparing(c -> c.getOrder() != null ? c.getOrder() : Integer.MAX_VALUE))
-                    .map(this::buildCategoryTree)
-                    .collect(Collectors.toList());
-            response.setSubCategories(childResponses);
+    private Map<Integer, Long> countProducts(List<Category> categories, CategoryCountMode mode) {
+        if (categories.isEmpty()) {
+            return Map.of();
+        }
+
+        if (mode == CategoryCountMode.DIRECT) {
+            return toCountMap(productRepository.countGroupedByCategoryIdIn(
+                    categories.stream().map(Category::getId).toList()));
+        }
+
+        Map<Integer, Set<Integer>> subtrees = new HashMap<>();
+        Set<Integer> allIds = new HashSet<>();
+        for (Category category : categories) {
+            Set<Integer> subtreeIds = categoryTreeSnapshot.getSubtreeIds(category.getId());
+            subtrees.put(category.getId(), subtreeIds);
+            allIds.addAll(subtreeIds);
         }
+        if (allIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, Long> directCounts = toCountMap(productRepository.countGroupedByCategoryIdIn(allIds));
+        Map<Integer, Long> rollupCounts = new HashMap<>();
+        subtrees.forEach((id, subtreeIds) -> rollupCounts.put(id, subtreeIds.stream()
+                .mapToLong(subtreeId -> directCounts.getOrDefault(subtreeId, 0L))
+                .sum()));
+        return rollupCounts;
+    }
 
-        return response;
+    private Map<Integer, Long> toCountMap(List<IdCount> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
+    }
+
+    private CategoryCountMode parseCountMode(String countMode) {
+        if (countMode == null || countMode.isBlank()) {
+            return CategoryCountMode.DIRECT;
+        }
+        try {
+            return CategoryCountMode.valueOf(countMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Unsupported count mode: " + countMode +
+                    ". Allowed values are: direct, rollup");
+        }
     }
 
     /**
      * Checks if moving categoryId under newParentId would create a circular
-     * dependency
+     * dependency, i.e. whether newParentId lies in categoryId's subtree
      */
     private boolean wouldCreateCircularDependency(Integer categoryId, Integer newParentId) {
         if (newParentId == null) {
             return false;
         }
 
-        Set<Integer> visited = new HashSet<>();
-        Integer currentParentId = newParentId;
-
-        while (currentParentId != null) {
-            if (currentParentId.equals(categoryId)) {
-                return true;
-            }
-
-            if (visited.contains(currentParentId)) {
-                // Already visited, avoid infinite loop
-                return true;
-            }
-
-            visited.add(currentParentId);
-
-            Optional<Category> parent = categoryRepository.findById(currentParentId);
-            currentParentId = parent.map(Category::getParentCategoryId).orElse(null);
-        }
-
-        return false;
+        return categoryClosureRepository.isAncestor(categoryId, newParentId);
     }
 }
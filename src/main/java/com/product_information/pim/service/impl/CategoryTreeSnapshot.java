@@ -0,0 +1,254 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.response.CategoryResponse;
+import com.product_information.pim.entity.Category;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.event.CategoryChangedEvent;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.mapper.CategoryMapper;
+import com.product_information.pim.repository.CategoryRepository;
+import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.repository.projection.IdCount;
+import com.product_information.pim.util.ETagUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the category tree and per-category product
+ * counts, loaded with two queries. Category changes rebuild it after commit;
+ * product changes only mark the counts stale, and they are reloaded in the
+ * background at most once per pim.category.snapshot.count-refresh-ms. Each
+ * rebuild is swapped in atomically, so readers never see a partial tree.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeSnapshot {
+
+    private static final Comparator<Category> BY_ORDER = Comparator
+            .comparing((Category c) -> c.getOrder() != null ? c.getOrder() : Integer.MAX_VALUE)
+            .thenComparing(Category::getId);
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CategoryMapper categoryMapper;
+
+    private final AtomicReference<Tree> tree = new AtomicReference<>();
+    private final AtomicBoolean countsStale = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
+
+    // Keeps ETags from two application instances from colliding
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangeType.CREATED
+                || event.getType() == ProductChangeType.UPDATED
+                || event.getType() == ProductChangeType.DELETED) {
+            countsStale.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pim.category.snapshot.count-refresh-ms:1000}")
+    public synchronized void refreshCounts() {
+        Tree current = tree.get();
+        if (current == null || !countsStale.getAndSet(false)) {
+            return;
+        }
+        tree.set(new Tree(versions.incrementAndGet(), current.categories(), current.rootIds(),
+                current.childIds(), loadProductCounts()));
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        // Cleared first, so a product change during the load is picked up by the next refresh
+        countsStale.set(false);
+
+        List<Category> all = categoryRepository.findAll();
+        Map<Integer, Category> categories = new HashMap<>(all.size() * 2);
+        Map<Integer, List<Category>> children = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : all) {
+            categories.put(category.getId(), category);
+            if (category.getParentCategoryId() == null) {
+                roots.add(category);
+            } else {
+                children.computeIfAbsent(category.getParentCategoryId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        Map<Integer, List<Integer>> childIds = children.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> sortedIds(entry.getValue())));
+        tree.set(new Tree(versions.incrementAndGet(), Map.copyOf(categories), sortedIds(roots), childIds,
+                loadProductCounts()));
+
+        log.info("Category tree snapshot rebuilt with {} categories in {} ms",
+                categories.size(), System.currentTimeMillis() - start);
+    }
+
+    public String getVersionTag() {
+        return ETagUtil.of(instanceId, current().version());
+    }
+
+    public List<CategoryResponse> getTree() {
+        Tree current = current();
+        return current.rootIds().stream()
+                .map(id -> toTreeResponse(current, id))
+                .collect(Collectors.toList());
+    }
+
+    public Optional<CategoryResponse> getSubtree(Integer id) {
+        Tree current = current();
+        return current.categories().containsKey(id)
+                ? Optional.of(toTreeResponse(current, id))
+                : Optional.empty();
+    }
+
+    /**
+     * @param rollup count the products of each category's descendants too
+     */
+    public List<CategoryResponse> getRoots(boolean rollup) {
+        Tree current = current();
+        return current.rootIds().stream()
+                .map(id -> rollup ? toRollupResponse(current, id) : toResponse(current, id))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param rollup count the products of each category's descendants too
+     */
+    public List<CategoryResponse> getChildren(Integer parentId, boolean rollup) {
+        Tree current = current();
+        return current.childIds().getOrDefault(parentId, List.of()).stream()
+                .map(id -> rollup ? toRollupResponse(current, id) : toResponse(current, id))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the category and all of its descendants, or an empty set for
+     *         an unknown category
+     */
+    public Set<Integer> getSubtreeIds(Integer id) {
+        return subtreeIds(current(), id);
+    }
+
+    /**
+     * @return the category followed by its ancestors up to the root, or an
+     *         empty list for an unknown category
+     */
+    public List<Integer> getPathToRoot(Integer id) {
+        Tree current = current();
+        List<Integer> path = new ArrayList<>();
+        Category category = current.categories().get(id);
+        while (category != null && !path.contains(category.getId())) {
+            path.add(category.getId());
+            category = category.getParentCategoryId() != null
+                    ? current.categories().get(category.getParentCategoryId())
+                    : null;
+        }
+        return path;
+    }
+
+    public Optional<String> getName(Integer id) {
+        return Optional.ofNullable(current().categories().get(id)).map(Category::getName);
+    }
+
+    private static Set<Integer> subtreeIds(Tree current, Integer id) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        if (!current.categories().containsKey(id)) {
+            return ids;
+        }
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(id);
+        while (!pending.isEmpty()) {
+            Integer next = pending.pop();
+            if (ids.add(next)) {
+                current.childIds().getOrDefault(next, List.of()).forEach(pending::push);
+            }
+        }
+        return ids;
+    }
+
+    private Tree current() {
+        Tree current = tree.get();
+        if (current == null) {
+            rebuild();
+            current = tree.get();
+        }
+        return current;
+    }
+
+    private CategoryResponse toTreeResponse(Tree current, Integer id) {
+        CategoryResponse response = toResponse(current, id);
+        List<Integer> childIds = current.childIds().getOrDefault(id, List.of());
+        if (!childIds.isEmpty()) {
+            response.setSubCategories(childIds.stream()
+                    .map(childId -> toTreeResponse(current, childId))
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    private CategoryResponse toResponse(Tree current, Integer id) {
+        return categoryMapper.toResponse(current.categories().get(id), current.productCounts().getOrDefault(id, 0L));
+    }
+
+    private CategoryResponse toRollupResponse(Tree current, Integer id) {
+        long productCount = subtreeIds(current, id).stream()
+                .mapToLong(subtreeId -> current.productCounts().getOrDefault(subtreeId, 0L))
+                .sum();
+        return categoryMapper.toResponse(current.categories().get(id), productCount);
+    }
+
+    private Map<Integer, Long> loadProductCounts() {
+        return productRepository.countGroupedByCategoryId().stream()
+                .collect(Collectors.toUnmodifiableMap(IdCount::getId, IdCount::getCount));
+    }
+
+    private static List<Integer> sortedIds(List<Category> categories) {
+        return categories.stream().sorted(BY_ORDER).map(Category::getId).toList();
+    }
+
+    /**
+     * One immutable version of the tree. Category entities are detached and
+     * never handed out; responses are built from them per request.
+     */
+    private record Tree(long version, Map<Integer, Category> categories, List<Integer> rootIds,
+            Map<Integer, List<Integer>> childIds, Map<Integer, Long> productCounts) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.response.DashboardStatsResponse;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.repository.ProductJdbcRepository;
+import com.product_information.pim.repository.projection.ProductDashboardState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product counters behind the dashboard statistics, kept up to date after
+ * each committed product, attribute, image or quality change. Each product's
+ * last known contribution is remembered (packed into an int) so a change is
+ * applied as a delta. A periodic full scan rebuilds the counters to correct
+ * any drift.
+ *
+ * The states live in a plain int array indexed by product id, so memory is
+ * 4 bytes per id up to the highest product id (about 4 MB per million ids),
+ * plus a second array of the same size while a rebuild scan runs.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStatsTracker {
+
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    // Packed product state: bits 0-3 status (0 = none), then flags, score from bit 8
+    private static final int STATUS_MASK = 0xF;
+    private static final int HAS_IMAGES = 1 << 4;
+    private static final int HAS_ATTRIBUTES = 1 << 5;
+    private static final int HAS_QUALITY = 1 << 6;
+    // Set for every tracked product, so an all-zero slot means untracked
+    private static final int PRESENT = 1 << 7;
+    private static final int SCORE_SHIFT = 8;
+
+    private final ProductJdbcRepository productJdbcRepository;
+
+    private final AtomicReference<Counters> counters = new AtomicReference<>();
+
+    // Products changed while a rebuild scan is running, re-applied once it finishes
+    private volatile Set<Integer> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${pim.dashboard.reconcile-interval-ms:900000}",
+            fixedDelayString = "${pim.dashboard.reconcile-interval-ms:900000}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+
+        Counters rebuilt = new Counters();
+        Counters previous;
+        try {
+            productJdbcRepository.streamDashboardStates(state -> rebuilt.apply(state.productId(), pack(state)));
+            previous = counters.getAndSet(rebuilt);
+        } finally {
+            changedDuringRebuild = null;
+        }
+        refresh(rebuilt, changed);
+
+        if (previous != null && previous.products.sum() != rebuilt.products.sum()) {
+            log.warn("Dashboard product count drifted: tracked {}, actual {}",
+                    previous.products.sum(), rebuilt.products.sum());
+        }
+        log.info("Dashboard statistics rebuilt for {} products in {} ms",
+                rebuilt.products.sum(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Set<Integer> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.addAll(event.getProductIds());
+        }
+        Counters current = counters.get();
+        if (current == null) {
+            return;
+        }
+
+        if (event.getType() == ProductChangeType.DELETED) {
+            event.getProductIds().forEach(id -> current.apply(id, null));
+        } else {
+            refresh(current, event.getProductIds());
+        }
+    }
+
+    /**
+     * Fills the counter fields of the response; brand and category totals
+     * are left to the caller.
+     */
+    public void fill(DashboardStatsResponse stats) {
+        if (counters.get() == null) {
+            reconcile();
+        }
+        Counters current = counters.get();
+
+        stats.setTotalProducts(current.products.sum());
+        stats.setDraftProducts(current.byStatus[statusCode(ProductStatus.DRAFT)].sum());
+        stats.setActiveProducts(current.byStatus[statusCode(ProductStatus.ACTIVE)].sum());
+        stats.setArchivedProducts(current.byStatus[statusCode(ProductStatus.ARCHIVED)].sum());
+        stats.setProductsWithImages(current.withImages.sum());
+        stats.setProductsWithAttributes(current.withAttributes.sum());
+
+        long qualityCount = current.qualityCount.sum();
+        double avgScore = qualityCount > 0 ? (double) current.qualitySum.sum() / qualityCount : 0.0;
+        stats.setAverageQualityScore(Math.round(avgScore * 100.0) / 100.0);
+    }
+
+    private void refresh(Counters target, Collection<Integer> productIds) {
+        List<Integer> ids = new ArrayList<>(productIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            Map<Integer, ProductDashboardState> states = productJdbcRepository.findDashboardStates(chunk).stream()
+                    .collect(Collectors.toMap(ProductDashboardState::productId, Function.identity()));
+            for (Integer id : chunk) {
+                ProductDashboardState state = states.get(id);
+                target.apply(id, state != null ? pack(state) : null);
+            }
+        }
+    }
+
+    private static int statusCode(ProductStatus status) {
+        return status != null ? status.ordinal() + 1 : 0;
+    }
+
+    private static int pack(ProductDashboardState state) {
+        int packed = statusCode(state.status());
+        if (state.hasImages()) {
+            packed |= HAS_IMAGES;
+        }
+        if (state.hasAttributes()) {
+            packed |= HAS_ATTRIBUTES;
+        }
+        if (state.qualityScore() != null) {
+            packed |= HAS_QUALITY | (state.qualityScore() << SCORE_SHIFT);
+        }
+        return packed;
+    }
+
+    private static final class Counters {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        // Packed state by product id, guarded by this
+        private int[] states = new int[INITIAL_CAPACITY];
+        private final LongAdder products = new LongAdder();
+        private final LongAdder[] byStatus = new LongAdder[ProductStatus.values().length + 1];
+        private final LongAdder withImages = new LongAdder();
+        private final LongAdder withAttributes = new LongAdder();
+        private final LongAdder qualityCount = new LongAdder();
+        private final LongAdder qualitySum = new LongAdder();
+
+        private Counters() {
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Replaces the product's contribution; a null state removes it.
+         */
+        private synchronized void apply(int productId, Integer state) {
+            if (productId >= states.length) {
+                if (state == null) {
+                    return;
+                }
+                states = Arrays.copyOf(states, Math.max(productId + 1, states.length * 2));
+            }
+
+            int previous = states[productId];
+            if ((previous & PRESENT) != 0) {
+                add(previous, -1);
+            }
+            if (state != null) {
+                add(state, 1);
+                states[productId] = state | PRESENT;
+            } else {
+                states[productId] = 0;
+            }
+        }
+
+        private void add(int state, int sign) {
+            products.add(sign);
+            byStatus[state & STATUS_MASK].add(sign);
+            if ((state & HAS_IMAGES) != 0) {
+                withImages.add(sign);
+            }
+            if ((state & HAS_ATTRIBUTES) != 0) {
+                withAttributes.add(sign);
+            }
+            if ((state & HAS_QUALITY) != 0) {
+                qualityCount.add(sign);
+                qualitySum.add((long) sign * (state >>> SCORE_SHIFT));
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.request.ExportJobRequest;
+import com.product_information.pim.dto.request.ProductExportOptions;
+import com.product_information.pim.dto.response.ExportJobResponse;
+import com.product_information.pim.enums.ExportJobStatus;
+import com.product_information.pim.exception.BusinessException;
+import com.product_information.pim.exception.ResourceNotFoundException;
+import com.product_information.pim.service.ExportJobService;
+import com.product_information.pim.service.ProductExportService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs catalog exports in the background, spilling them to files under
+ * pim.export.directory. Jobs are kept in memory; finished jobs and their
+ * files are removed after pim.export.retention. Files no job knows about,
+ * such as those left by a previous run or interrupted .part files, are
+ * swept from the directory once they are older than the retention.
+ */
+@Service
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+    private final ProductExportService productExportService;
+    private final Path directory;
+    private final Duration retention;
+    private final ExecutorService workers;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(
+            ProductExportService productExportService,
+            @Value("${pim.export.directory:${java.io.tmpdir}/pim-exports}") Path directory,
+            @Value("${pim.export.retention:24h}") Duration retention,
+            @Value("${pim.export.workers:2}") int workers) {
+        this.productExportService = productExportService;
+        this.directory = directory;
+        this.retention = retention;
+        this.workers = Executors.newFixedThreadPool(workers);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+    }
+
+    @Override
+    public ExportJobResponse submit(ExportJobRequest request) {
+        ProductExportOptions options = ProductExportOptions.builder()
+                .format(request.getFormat())
+                .gzip(request.isGzip())
+                .includeNames(request.isIncludeNames())
+                .includeAttributes(request.isIncludeAttributes())
+                .filter(request.getFilter())
+                .build();
+
+        String id = UUID.randomUUID().toString();
+        String filename = "products-" + id + "." + options.getFormat().name().toLowerCase(Locale.ROOT)
+                + (options.isGzip() ? ".gz" : "");
+        ExportJob job = new ExportJob(id, options, directory.resolve(filename));
+        jobs.put(id, job);
+
+        log.info("Queued export job {} with options: {}", id, options);
+        workers.execute(() -> run(job));
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportJobResponse getJob(String id) {
+        return toResponse(findJob(id));
+    }
+
+    @Override
+    public Path getFile(String id) {
+        ExportJob job = findJob(id);
+        if (job.status != ExportJobStatus.COMPLETED) {
+            throw new BusinessException("Export job " + id + " is " + job.status + ", not COMPLETED");
+        }
+        return job.file;
+    }
+
+    @Override
+    public void delete(String id) {
+        ExportJob job = findJob(id);
+        if (job.status == ExportJobStatus.QUEUED || job.status == ExportJobStatus.RUNNING) {
+            throw new BusinessException("Export job " + id + " is still " + job.status);
+        }
+        jobs.remove(id);
+        deleteFile(job.file);
+        log.info("Deleted export job {}", id);
+    }
+
+    private void run(ExportJob job) {
+        job.status = ExportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        Path partFile = partFileOf(job);
+
+        try (FileChannel channel = FileChannel.open(partFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE)) {
+            job.productCount = productExportService.export(job.options, out);
+            out.flush();
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            fail(job, partFile, e);
+            return;
+        }
+
+        try {
+            // Only a complete file ever appears under the final name
+            Files.move(partFile, job.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.sizeBytes = Files.size(job.file);
+        } catch (IOException e) {
+            fail(job, partFile, e);
+            return;
+        }
+        job.completedAt = LocalDateTime.now();
+        job.status = ExportJobStatus.COMPLETED;
+        log.info("Export job {} completed: {} products, {} bytes", job.id, job.productCount, job.sizeBytes);
+    }
+
+    private void fail(ExportJob job, Path partFile, Exception e) {
+        log.error("Export job {} failed", job.id, e);
+        deleteFile(partFile);
+        job.error = e.getMessage();
+        job.completedAt = LocalDateTime.now();
+        job.status = ExportJobStatus.FAILED;
+    }
+
+    @Scheduled(fixedDelayString = "${pim.export.cleanup-interval-ms:600000}")
+    public void removeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(cutoff)) {
+                return false;
+            }
+            deleteFile(job.file);
+            log.info("Removed expired export job {}", job.id);
+            return true;
+        });
+        sweepDirectory(cutoff);
+    }
+
+    private void sweepDirectory(LocalDateTime cutoff) {
+        Set<Path> known = new HashSet<>();
+        jobs.values().forEach(job -> {
+            known.add(job.file);
+            known.add(partFileOf(job));
+        });
+
+        Instant cutoffInstant = cutoff.atZone(ZoneId.systemDefault()).toInstant();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (known.contains(file) || !Files.isRegularFile(file)
+                        || Files.getLastModifiedTime(file).toInstant().isAfter(cutoffInstant)) {
+                    continue;
+                }
+                deleteFile(file);
+                log.info("Removed orphaned export file {}", file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not sweep export directory {}", directory, e);
+        }
+    }
+
+    private Path partFileOf(ExportJob job) {
+        return job.file.resolveSibling(job.file.getFileName() + ".part");
+    }
+
+    private ExportJob findJob(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("ExportJob", "id", id);
+        }
+        return job;
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        ExportJobStatus status = job.status;
+        return ExportJobResponse.builder()
+                .id(job.id)
+                .status(status)
+                .format(job.options.getFormat())
+                .gzip(job.options.isGzip())
+                .filename(job.file.getFileName().toString())
+                .productCount(job.productCount)
+                .sizeBytes(job.sizeBytes)
+                .error(job.error)
+                .downloadUrl(status == ExportJobStatus.COMPLETED ? "/api/exports/" + job.id + "/file" : null)
+                .createdAt(job.createdAt)
+                .startedAt(job.startedAt)
+                .completedAt(job.completedAt)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static final class ExportJob {
+
+        private final String id;
+        private final ProductExportOptions options;
+        private final Path file;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        // Written by the worker, read by status requests; status is set last
+        private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile Long productCount;
+        private volatile Long sizeBytes;
+        private volatile String error;
+
+        private ExportJob(String id, ProductExportOptions options, Path file) {
+            this.id = id;
+            this.options = options;
+            this.file = file;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.product_information.pim.dto.request.ProductAttributeRequest;
 import com.product_information.pim.dto.request.ProductAttributeUpdateRequest;
 import com.product_information.pim.dto.response.ProductAttributeResponse;
 import com.product_information.pim.entity.ProductAttribute;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.event.ProductChangedEvent;
 import com.product_information.pim.exception.BusinessException;
 import com.product_information.pim.exception.DuplicateResourceException;
 import com.product_information.pim.exception.ResourceNotFoundException;
@@ -15,9 +17,11 @@ import com.product_information.pim.service.QualityScoreService;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +36,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
     private final ProductAttributeMapper productAttributeMapper;
     private final QualityScoreService qualityScoreService;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProductAttributeResponse create(ProductAttributeRequest request) {
@@ -57,7 +62,9 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         ProductAttribute savedAttribute = productAttributeRepository.save(attribute);
 
         // Recalculate quality after attribute change
-        qualityScoreService.updateQualityScore(request.getProductId());
+        qualityScoreService.requestQualityScore(request.getProductId());
+        productRepository.touchUpdatedAt(List.of(request.getProductId()), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(request.getProductId(), ProductChangeType.ATTRIBUTES));
 
         log.info("Product attribute created successfully with id: {}", savedAttribute.getId());
         return productAttributeMapper.toResponse(savedAttribute);
@@ -95,7 +102,9 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         ProductAttribute updatedAttribute = productAttributeRepository.save(attribute);
 
         // Recalculate quality after attribute change
-        qualityScoreService.updateQualityScore(attribute.getProductId());
+        qualityScoreService.requestQualityScore(attribute.getProductId());
+        productRepository.touchUpdatedAt(List.of(attribute.getProductId()), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(attribute.getProductId(), ProductChangeType.ATTRIBUTES));
 
         log.info("Product attribute updated successfully with id: {}", id);
         return productAttributeMapper.toResponse(updatedAttribute);
@@ -153,7 +162,9 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         productAttributeRepository.flush();
 
         // Recalculate quality after attribute change
-        qualityScoreService.updateQualityScore(productId);
+        qualityScoreService.requestQualityScore(productId);
+        productRepository.touchUpdatedAt(List.of(productId), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangeType.ATTRIBUTES));
 
         log.info("Product attribute deleted successfully with id: {}", id);
     }
@@ -170,7 +181,9 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         log.info("Deleted {} attributes for product id: {}", deletedCount, productId);
 
         // Recalculate quality after attribute change
-        qualityScoreService.updateQualityScore(productId);
+        qualityScoreService.requestQualityScore(productId);
+        productRepository.touchUpdatedAt(List.of(productId), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangeType.ATTRIBUTES));
 
         log.info("All product attributes deleted successfully for product id: {}", productId);
     }
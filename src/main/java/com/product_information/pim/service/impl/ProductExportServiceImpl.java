@@ -0,0 +1,230 @@
+package com.product_information.pim.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product_information.pim.dto.request.ProductExportOptions;
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.enums.ExportFormat;
+import com.product_information.pim.enums.SearchMode;
+import com.product_information.pim.repository.ProductExportRepository;
+import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.repository.projection.ProductExportRow;
+import com.product_information.pim.service.ProductExportService;
+import com.product_information.pim.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductExportServiceImpl implements ProductExportService {
+
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String ATTRIBUTE_COLUMN_PREFIX = "attr.";
+
+    private final ProductExportRepository productExportRepository;
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pim.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    @Override
+    public long export(ProductExportOptions options, OutputStream outputStream) throws IOException {
+        log.info("Exporting products with options: {}", options);
+        long start = System.currentTimeMillis();
+
+        // Sync flush so every chunk reaches the client instead of waiting in the deflater
+        OutputStream target = options.isGzip() ? new GZIPOutputStream(outputStream, BUFFER_SIZE, true) : outputStream;
+        long count = options.getFormat() == ExportFormat.CSV
+                ? writeCsv(options, target)
+                : writeJson(options, target);
+        if (target instanceof GZIPOutputStream gzip) {
+            gzip.finish();
+        }
+
+        log.info("Products exported to {} successfully: {} products in {} ms",
+                options.getFormat(), count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private long writeCsv(ProductExportOptions options, OutputStream target) throws IOException {
+        CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE));
+
+        List<String> attributeKeys = options.isIncludeAttributes()
+                ? productExportRepository.findAttributeKeys()
+                : List.of();
+        csv.writeRecord(header(options, attributeKeys));
+
+        long count = forEachChunk(options, (chunk, attributes) -> {
+            for (ProductExportRow row : chunk) {
+                csv.writeRecord(record(row, options, attributeKeys, attributes.getOrDefault(row.id(), Map.of())));
+            }
+            csv.flush();
+        });
+        csv.flush();
+        return count;
+    }
+
+    /**
+     * Writes a JSON array, or one object per line for NDJSON, token by token.
+     */
+    private long writeJson(ProductExportOptions options, OutputStream target) throws IOException {
+        boolean ndjson = options.getFormat() == ExportFormat.NDJSON;
+        JsonGenerator generator = objectMapper.createGenerator(target, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        if (!ndjson) {
+            generator.writeStartArray();
+        }
+        long count = forEachChunk(options, (chunk, attributes) -> {
+            for (ProductExportRow row : chunk) {
+                writeJsonProduct(generator, row, options, attributes.get(row.id()));
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            }
+            generator.flush();
+        });
+        if (!ndjson) {
+            generator.writeEndArray();
+        }
+        generator.close();
+        return count;
+    }
+
+    private void writeJsonProduct(JsonGenerator generator, ProductExportRow row, ProductExportOptions options,
+            Map<String, String> attributes) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("barcode", row.barcode());
+        generator.writeStringField("title", row.title());
+        generator.writePOJOField("categoryId", row.categoryId());
+        if (options.isIncludeNames()) {
+            generator.writeStringField("categoryName", row.categoryName());
+        }
+        generator.writePOJOField("brandId", row.brandId());
+        if (options.isIncludeNames()) {
+            generator.writeStringField("brandName", row.brandName());
+        }
+        generator.writePOJOField("status", row.status());
+        generator.writeStringField("description", row.description());
+        generator.writePOJOField("createdAt", row.createdAt());
+        generator.writePOJOField("updatedAt", row.updatedAt());
+        generator.writeNumberField("attributeCount", row.attributeCount());
+        generator.writeNumberField("imageCount", row.imageCount());
+        if (row.qualityScore() != null) {
+            generator.writeNumberField("qualityScore", row.qualityScore());
+        }
+        if (options.isIncludeAttributes()) {
+            generator.writeObjectFieldStart("attributes");
+            if (attributes != null) {
+                for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                    generator.writeStringField(attribute.getKey(), attribute.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the catalog, or the products matching the filter, in id order one
+     * keyset chunk at a time, with the chunk's attribute values when they are
+     * requested.
+     *
+     * @return number of products read
+     */
+    private long forEachChunk(ProductExportOptions options, ChunkWriter writer) throws IOException {
+        ProductSearchCriteria filter = options.getFilter() != null && options.getFilter().hasFilters()
+                ? options.getFilter()
+                : null;
+        boolean fullText = filter != null && searchMode == SearchMode.FULL_TEXT && filter.hasKeyword();
+
+        long count = 0;
+        int afterId = 0;
+        int read;
+        do {
+            List<ProductExportRow> chunk;
+            if (filter != null) {
+                List<Integer> ids = productRepository.searchIdsAfter(filter, afterId, EXPORT_CHUNK_SIZE, fullText);
+                read = ids.size();
+                chunk = productExportRepository.findRowsByIds(ids);
+                afterId = read > 0 ? ids.get(read - 1) : afterId;
+            } else {
+                chunk = productExportRepository.findRowsAfter(afterId, EXPORT_CHUNK_SIZE);
+                read = chunk.size();
+                afterId = read > 0 ? chunk.get(read - 1).id() : afterId;
+            }
+            if (chunk.isEmpty()) {
+                continue;
+            }
+
+            Map<Integer, Map<String, String>> attributes = options.isIncludeAttributes()
+                    ? productExportRepository.findAttributeValues(chunk.stream().map(ProductExportRow::id).toList())
+                    : Map.of();
+            writer.write(chunk, attributes);
+            count += chunk.size();
+        } while (read == EXPORT_CHUNK_SIZE);
+        return count;
+    }
+
+    private List<String> header(ProductExportOptions options, List<String> attributeKeys) {
+        List<String> header = new ArrayList<>(List.of("ID", "Barcode", "Title", "Category ID"));
+        if (options.isIncludeNames()) {
+            header.add("Category Name");
+        }
+        header.add("Brand ID");
+        if (options.isIncludeNames()) {
+            header.add("Brand Name");
+        }
+        header.addAll(List.of("Status", "Description", "Created At", "Updated At"));
+        attributeKeys.forEach(key -> header.add(ATTRIBUTE_COLUMN_PREFIX + key));
+        return header;
+    }
+
+    private List<Object> record(ProductExportRow row, ProductExportOptions options, List<String> attributeKeys,
+            Map<String, String> attributes) {
+        List<Object> record = new ArrayList<>(11 + attributeKeys.size());
+        record.add(row.id());
+        record.add(row.barcode());
+        record.add(row.title());
+        record.add(row.categoryId());
+        if (options.isIncludeNames()) {
+            record.add(row.categoryName());
+        }
+        record.add(row.brandId());
+        if (options.isIncludeNames()) {
+            record.add(row.brandName());
+        }
+        record.add(row.status());
+        record.add(row.description());
+        record.add(row.createdAt());
+        record.add(row.updatedAt());
+        attributeKeys.forEach(key -> record.add(attributes.get(key)));
+        return record;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+
+        void write(List<ProductExportRow> chunk, Map<Integer, Map<String, String>> attributes) throws IOException;
+    }
+}
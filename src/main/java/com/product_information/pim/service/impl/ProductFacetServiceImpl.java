@@ -0,0 +1,140 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.dto.response.FacetValueResponse;
+import com.product_information.pim.entity.Brand;
+import com.product_information.pim.enums.ProductFacet;
+import com.product_information.pim.enums.SearchMode;
+import com.product_information.pim.exception.BusinessException;
+import com.product_information.pim.repository.BrandRepository;
+import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.service.ProductFacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductFacetServiceImpl implements ProductFacetService {
+
+    private static final Comparator<FacetValueResponse> BY_COUNT_DESC = Comparator
+            .comparing(FacetValueResponse::getCount, Comparator.reverseOrder())
+            .thenComparing(FacetValueResponse::getValue);
+
+    private final ProductRepository productRepository;
+    private final CategoryTreeSnapshot categoryTreeSnapshot;
+    private final BrandRepository brandRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @Value("${pim.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    @Override
+    public Map<String, List<FacetValueResponse>> getFacets(
+            ProductSearchCriteria criteria, Collection<String> facetNames) {
+        Set<ProductFacet> facets = parseFacets(facetNames);
+        log.info("Counting facets {} for criteria: {}", facets, criteria);
+
+        Map<ProductFacet, Map<String, Long>> counts = searchMode == SearchMode.INDEX
+                && criteria.hasKeyword()
+                && productSearchIndex.isReady()
+                        ? productSearchIndex.countFacets(criteria, facets)
+                        : productRepository.countFacets(criteria, facets, searchMode == SearchMode.FULL_TEXT);
+
+        Map<String, List<FacetValueResponse>> result = new LinkedHashMap<>();
+        counts.forEach((facet, values) -> {
+            String name = facet.name().toLowerCase(Locale.ROOT);
+            switch (facet) {
+                case STATUS -> result.put(name, toStatusValues(values));
+                case BRAND -> result.put(name, toBrandValues(values));
+                case CATEGORY -> result.put(name, toCategoryValues(values));
+            }
+        });
+        return result;
+    }
+
+    private Set<ProductFacet> parseFacets(Collection<String> facetNames) {
+        Set<ProductFacet> facets = EnumSet.noneOf(ProductFacet.class);
+        if (facetNames == null) {
+            return facets;
+        }
+
+        for (String name : facetNames) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            try {
+                facets.add(ProductFacet.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("Unsupported facet: " + name + ". Allowed values are: status, brand, category");
+            }
+        }
+        return facets;
+    }
+
+    private List<FacetValueResponse> toStatusValues(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> toFacetValue(entry.getKey(), entry.getKey(), entry.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .collect(Collectors.toList());
+    }
+
+    private List<FacetValueResponse> toBrandValues(Map<String, Long> counts) {
+        Set<Integer> brandIds = counts.keySet().stream()
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+        Map<Integer, String> names = brandIds.isEmpty()
+                ? Map.of()
+                : brandRepository.findAllById(brandIds).stream()
+                        .collect(Collectors.toMap(Brand::getId, Brand::getName));
+
+        return counts.entrySet().stream()
+                .map(entry -> toFacetValue(entry.getKey(), names.get(Integer.valueOf(entry.getKey())), entry.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds every category's count to all of its ancestors, so a parent
+     * category reports the products of its whole subtree.
+     */
+    private List<FacetValueResponse> toCategoryValues(Map<String, Long> counts) {
+        if (counts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Parents and names come from the in-memory category snapshot
+        Map<Integer, Long> rolledUp = new HashMap<>();
+        counts.forEach((value, count) -> {
+            Integer categoryId = Integer.valueOf(value);
+            List<Integer> path = categoryTreeSnapshot.getPathToRoot(categoryId);
+            if (path.isEmpty()) {
+                rolledUp.merge(categoryId, count, Long::sum);
+            }
+            path.forEach(id -> rolledUp.merge(id, count, Long::sum));
+        });
+
+        return rolledUp.entrySet().stream()
+                .map(entry -> toFacetValue(
+                        entry.getKey().toString(),
+                        categoryTreeSnapshot.getName(entry.getKey()).orElse(null),
+                        entry.getValue()))
+                .sorted(BY_COUNT_DESC)
+                .collect(Collectors.toList());
+    }
+
+    private FacetValueResponse toFacetValue(String value, String label, Long count) {
+        return FacetValueResponse.builder()
+                .value(value)
+                .label(label)
+                .count(count)
+                .build();
+    }
+}
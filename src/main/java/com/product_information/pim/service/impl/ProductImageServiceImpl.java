@@ -4,6 +4,8 @@ import com.product_information.pim.dto.request.ProductImageCreateRequest;
 import com.product_information.pim.dto.request.ProductImageUpdateRequest;
 import com.product_information.pim.dto.response.ProductImageResponse;
 import com.product_information.pim.entity.ProductImage;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.event.ProductChangedEvent;
 import com.product_information.pim.exception.ResourceNotFoundException;
 import com.product_information.pim.mapper.ProductImageMapper;
 import com.product_information.pim.repository.ProductImageRepository;
@@ -11,9 +13,11 @@ import com.product_information.pim.repository.ProductRepository;
 import com.product_information.pim.service.ProductImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,6 +30,7 @@ public class ProductImageServiceImpl implements ProductImageService {
     private final ProductImageRepository productImageRepository;
     private final ProductRepository productRepository;
     private final ProductImageMapper productImageMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -37,6 +42,8 @@ public class ProductImageServiceImpl implements ProductImageService {
 
         ProductImage image = productImageMapper.toEntity(request.getProductId(), request);
         ProductImage savedImage = productImageRepository.save(image);
+        productRepository.touchUpdatedAt(List.of(request.getProductId()), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(request.getProductId(), ProductChangeType.IMAGES));
 
         log.info("Image added successfully with id: {}", savedImage.getId());
         return productImageMapper.toResponse(savedImage);
@@ -61,6 +68,8 @@ public class ProductImageServiceImpl implements ProductImageService {
         }
 
         ProductImage updatedImage = productImageRepository.save(image);
+        productRepository.touchUpdatedAt(List.of(image.getProductId()), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(image.getProductId(), ProductChangeType.IMAGES));
 
         log.info("Image updated successfully");
         return productImageMapper.toResponse(updatedImage);
@@ -109,6 +118,8 @@ public class ProductImageServiceImpl implements ProductImageService {
             image.setOrder(order);
             productImageRepository.save(image);
         });
+        productRepository.touchUpdatedAt(List.of(productId), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangeType.IMAGES));
 
         log.info("Images reordered successfully");
     }
@@ -122,6 +133,8 @@ public class ProductImageServiceImpl implements ProductImageService {
                 .orElseThrow(() -> new ResourceNotFoundException("ProductImage", "id", id));
 
         productImageRepository.delete(image);
+        productRepository.touchUpdatedAt(List.of(image.getProductId()), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.of(image.getProductId(), ProductChangeType.IMAGES));
 
         log.info("Image deleted successfully");
     }
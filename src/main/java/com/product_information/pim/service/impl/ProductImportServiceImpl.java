@@ -0,0 +1,625 @@
+package com.product_information.pim.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.dto.request.ProductImageRequest;
+import com.product_information.pim.dto.response.ProductImportError;
+import com.product_information.pim.dto.response.ProductImportResponse;
+import com.product_information.pim.dto.response.ProductUpsertResponse;
+import com.product_information.pim.dto.response.ProductUpsertResult;
+import com.product_information.pim.entity.Brand;
+import com.product_information.pim.entity.Category;
+import com.product_information.pim.entity.Product;
+import com.product_information.pim.entity.ProductAttribute;
+import com.product_information.pim.entity.ProductImage;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.enums.UpsertOutcome;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.exception.BusinessException;
+import com.product_information.pim.mapper.ProductImageMapper;
+import com.product_information.pim.mapper.ProductMapper;
+import com.product_information.pim.repository.BrandRepository;
+import com.product_information.pim.repository.CategoryRepository;
+import com.product_information.pim.repository.ProductAttributeRepository;
+import com.product_information.pim.repository.ProductImageRepository;
+import com.product_information.pim.repository.ProductJdbcRepository;
+import com.product_information.pim.service.ProductImportService;
+import com.product_information.pim.service.QualityScoreService;
+import com.product_information.pim.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk product import and upsert. References are validated against in-memory
+ * id sets, and each batch is written with JDBC batches and scored in bulk in
+ * its own transaction, so a failing batch does not undo the batches before it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String ATTRIBUTE_COLUMN_PREFIX = "attr.";
+    private static final String IMAGE_SEPARATOR = "\\|";
+    private static final char FIELD_SEPARATOR = '\u001F';
+
+    private final ProductJdbcRepository productJdbcRepository;
+    private final CategoryRepository categoryRepository;
+    private final BrandRepository brandRepository;
+    private final ProductAttributeRepository productAttributeRepository;
+    private final ProductImageRepository productImageRepository;
+    private final QualityScoreService qualityScoreService;
+    private final ProductMapper productMapper;
+    private final ProductImageMapper productImageMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Override
+    public ProductImportResponse importCsv(InputStream input) {
+        log.info("Importing products from CSV");
+
+        ImportRun run = new ImportRun();
+        readCsv(input, run);
+        return run.finish();
+    }
+
+    @Override
+    public ProductImportResponse importNdjson(InputStream input) {
+        log.info("Importing products from NDJSON");
+
+        ImportRun run = new ImportRun();
+        readNdjson(input, run);
+        return run.finish();
+    }
+
+    @Override
+    public ProductUpsertResponse upsertCsv(InputStream input) {
+        log.info("Upserting products from CSV");
+
+        UpsertRun run = new UpsertRun();
+        readCsv(input, run);
+        return run.finish();
+    }
+
+    @Override
+    public ProductUpsertResponse upsertNdjson(InputStream input) {
+        log.info("Upserting products from NDJSON");
+
+        UpsertRun run = new UpsertRun();
+        readNdjson(input, run);
+        return run.finish();
+    }
+
+    private void readCsv(InputStream input, Run run) {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new BusinessException("CSV input is empty");
+            }
+            List<String> columns = header.stream()
+                    .map(ProductImportServiceImpl::normalizeColumn)
+                    .collect(Collectors.toList());
+
+            long record = 0;
+            List<String> fields;
+            while ((fields = reader.readRecord()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                record++;
+                try {
+                    run.add(record, toRequest(columns, fields));
+                } catch (IllegalArgumentException e) {
+                    run.fail(record, null, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readNdjson(InputStream input, Run run) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long record = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                record++;
+                try {
+                    run.add(record, toRequest(objectMapper, line));
+                } catch (JsonProcessingException e) {
+                    run.fail(record, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Row parsing from here on is static and package-private for unit tests
+    static ProductCreateRequest toRequest(ObjectMapper objectMapper, String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        ProductCreateRequest request = objectMapper.treeToValue(node, ProductCreateRequest.class);
+        // Tell an absent status apart from the DRAFT default of the request class
+        if (!node.hasNonNull("status")) {
+            request.setStatus(null);
+        }
+        return request;
+    }
+
+    /**
+     * Lowercases a header name and drops spaces and underscores, keeping
+     * attribute keys as they are.
+     */
+    static String normalizeColumn(String column) {
+        String name = column.replace("\uFEFF", "").trim();
+        if (name.regionMatches(true, 0, ATTRIBUTE_COLUMN_PREFIX, 0, ATTRIBUTE_COLUMN_PREFIX.length())) {
+            return ATTRIBUTE_COLUMN_PREFIX + name.substring(ATTRIBUTE_COLUMN_PREFIX.length());
+        }
+        return name.toLowerCase(Locale.ENGLISH).replace(" ", "").replace("_", "");
+    }
+
+    static ProductCreateRequest toRequest(List<String> columns, List<String> fields) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setStatus(null);
+        Map<String, String> attributes = new LinkedHashMap<>();
+
+        for (int i = 0; i < columns.size() && i < fields.size(); i++) {
+            String column = columns.get(i);
+            String value = fields.get(i).isEmpty() ? null : fields.get(i);
+
+            if (column.startsWith(ATTRIBUTE_COLUMN_PREFIX)) {
+                if (value != null) {
+                    attributes.put(column.substring(ATTRIBUTE_COLUMN_PREFIX.length()), value);
+                }
+                continue;
+            }
+            switch (column) {
+                case "barcode" -> request.setBarcode(value);
+                case "title" -> request.setTitle(value);
+                case "description" -> request.setDescription(value);
+                case "categoryid" -> request.setCategoryId(parseId("category id", value));
+                case "brandid" -> request.setBrandId(parseId("brand id", value));
+                case "status" -> request.setStatus(parseStatus(value));
+                case "images" -> request.setImages(parseImages(value));
+                default -> {
+                    // Unknown columns, such as id and timestamps from an export, are ignored
+                }
+            }
+        }
+
+        // Without a non-empty attribute cell the attributes section is absent rather than empty,
+        // so an upsert keeps the current attributes like it keeps other empty values
+        request.setAttributes(attributes.isEmpty() ? null : attributes);
+        return request;
+    }
+
+    static Integer parseId(String name, String value) {
+        // The dashboard export writes missing references as "null"
+        if (value == null || "null".equals(value)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    static ProductStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ProductStatus.valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + value);
+        }
+    }
+
+    static List<ProductImageRequest> parseImages(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        List<ProductImageRequest> images = new ArrayList<>();
+        for (String url : value.split(IMAGE_SEPARATOR)) {
+            if (!url.isBlank()) {
+                images.add(new ProductImageRequest(url.trim(), null, images.size()));
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Canonical digest of the content an upsert can change, used to skip
+     * rows that would not change anything.
+     */
+    private String contentHash(ProductCreateRequest product, Map<String, String> attributes,
+                               List<ProductImageRequest> images) {
+        StringBuilder content = new StringBuilder()
+                .append(product.getCategoryId()).append(FIELD_SEPARATOR)
+                .append(product.getBrandId()).append(FIELD_SEPARATOR)
+                .append(product.getTitle()).append(FIELD_SEPARATOR)
+                .append(product.getDescription()).append(FIELD_SEPARATOR)
+                .append(product.getStatus()).append(FIELD_SEPARATOR);
+        new TreeMap<>(attributes).forEach((key, value) ->
+                content.append(key).append('=').append(value).append(FIELD_SEPARATOR));
+        content.append(FIELD_SEPARATOR);
+        images.forEach(image -> content.append(image.getImageUrl()).append(' ')
+                .append(image.getAltText()).append(' ')
+                .append(image.getOrder()).append(FIELD_SEPARATOR));
+
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeChildren(List<ProductCreateRequest> products, Map<String, Integer> ids) {
+        List<ProductAttribute> attributes = new ArrayList<>();
+        List<ProductImage> images = new ArrayList<>();
+        for (ProductCreateRequest product : products) {
+            Integer productId = ids.get(product.getBarcode());
+            attributes.addAll(productMapper.toAttributeEntities(productId, product.getAttributes()));
+            if (product.getImages() != null) {
+                product.getImages().forEach(image -> images.add(productImageMapper.toEntity(productId, image)));
+            }
+        }
+        productJdbcRepository.insertAttributes(attributes);
+        productJdbcRepository.insertImages(images);
+    }
+
+    private record ImportRow(long record, ProductCreateRequest request) {
+    }
+
+    private record BatchResult(int imported, List<ImportRow> duplicates) {
+    }
+
+    /**
+     * State shared by imports and upserts: reference id sets loaded once,
+     * barcodes seen so far and the pending batch.
+     */
+    private abstract class Run {
+
+        protected final Set<Integer> categoryIds = categoryRepository.findAll().stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+        protected final Set<Integer> brandIds = brandRepository.findAll().stream()
+                .map(Brand::getId)
+                .collect(Collectors.toSet());
+        private final Set<String> seenBarcodes = new HashSet<>();
+        private final List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        protected long received;
+
+        void add(long record, ProductCreateRequest request) {
+            received++;
+
+            normalizeReferences(request);
+            String error = validate(request);
+            if (error != null) {
+                recordFailure(record, request.getBarcode(), error);
+                return;
+            }
+
+            seenBarcodes.add(request.getBarcode());
+            batch.add(new ImportRow(record, request));
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void fail(long record, String barcode, String message) {
+            received++;
+            recordFailure(record, barcode, message);
+        }
+
+        protected abstract void recordFailure(long record, String barcode, String message);
+
+        /**
+         * Writes one batch in its own transaction and records the outcome
+         * of every row.
+         */
+        protected abstract void writeBatch(List<ImportRow> rows);
+
+        protected void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<ImportRow> rows = new ArrayList<>(batch);
+            batch.clear();
+            try {
+                writeBatch(rows);
+            } catch (RuntimeException e) {
+                // Any failure, not only a data access one, fails just this batch: earlier batches are
+                // committed and the run must still report them
+                Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+                String message = "Batch failed: "
+                        + (cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+                log.warn("Product batch of {} rows failed", rows.size(), e);
+                rows.forEach(row -> recordFailure(row.record(), row.request().getBarcode(), message));
+            } finally {
+                // Quality scoring reads through JPA; keep the request-scoped context from growing
+                entityManager.clear();
+            }
+        }
+
+        // Same handling of non-positive ids as the single create endpoint
+        private void normalizeReferences(ProductCreateRequest request) {
+            if (request.getBrandId() != null && request.getBrandId() <= 0) {
+                request.setBrandId(null);
+            }
+            if (request.getCategoryId() != null && request.getCategoryId() <= 0) {
+                request.setCategoryId(null);
+            }
+        }
+
+        private String validate(ProductCreateRequest request) {
+            Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return violations.iterator().next().getMessage();
+            }
+            if (request.getImages() != null) {
+                for (ProductImageRequest image : request.getImages()) {
+                    Set<ConstraintViolation<ProductImageRequest>> imageViolations = validator.validate(image);
+                    if (!imageViolations.isEmpty()) {
+                        return imageViolations.iterator().next().getMessage();
+                    }
+                }
+            }
+            if (seenBarcodes.contains(request.getBarcode())) {
+                return "Duplicate barcode in input: " + request.getBarcode();
+            }
+            if (request.getCategoryId() != null && !categoryIds.contains(request.getCategoryId())) {
+                return "Category not found with id: '" + request.getCategoryId() + "'";
+            }
+            if (request.getBrandId() != null && !brandIds.contains(request.getBrandId())) {
+                return "Brand not found with id: '" + request.getBrandId() + "'";
+            }
+            return null;
+        }
+    }
+
+    private class ImportRun extends Run {
+
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        @Override
+        void add(long record, ProductCreateRequest request) {
+            if (request.getStatus() == null) {
+                request.setStatus(ProductStatus.DRAFT);
+            }
+            super.add(record, request);
+        }
+
+        ProductImportResponse finish() {
+            flush();
+            log.info("Product import finished: {} received, {} imported, {} failed", received, imported, failed);
+
+            return ProductImportResponse.builder()
+                    .received(received)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .build();
+        }
+
+        @Override
+        protected void recordFailure(long record, String barcode, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportError(record, barcode, message));
+            }
+        }
+
+        @Override
+        protected void writeBatch(List<ImportRow> rows) {
+            BatchResult result = transactionTemplate.execute(status -> insertBatch(rows));
+            imported += result.imported();
+            result.duplicates().forEach(row -> recordFailure(row.record(), row.request().getBarcode(),
+                    "Product already exists with barcode: '" + row.request().getBarcode() + "'"));
+        }
+
+        private BatchResult insertBatch(List<ImportRow> rows) {
+            Set<String> existing = productJdbcRepository.findExistingBarcodes(
+                    rows.stream().map(row -> row.request().getBarcode()).collect(Collectors.toList()));
+
+            List<ImportRow> duplicates = new ArrayList<>();
+            List<ProductCreateRequest> products = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                if (existing.contains(row.request().getBarcode())) {
+                    duplicates.add(row);
+                } else {
+                    products.add(row.request());
+                }
+            }
+
+            Map<String, Integer> ids = productJdbcRepository.insertProducts(products);
+            writeChildren(products, ids);
+
+            qualityScoreService.updateQualityScores(ids.values());
+            eventPublisher.publishEvent(new ProductChangedEvent(new ArrayList<>(ids.values()), ProductChangeType.CREATED));
+
+            return new BatchResult(products.size(), duplicates);
+        }
+    }
+
+    private class UpsertRun extends Run {
+
+        private final List<ProductUpsertResult> results = new ArrayList<>();
+        private final Map<UpsertOutcome, Long> counts = new EnumMap<>(UpsertOutcome.class);
+
+        ProductUpsertResponse finish() {
+            flush();
+            results.sort(Comparator.comparing(ProductUpsertResult::getRecord));
+            log.info("Product upsert finished: {} received, {}", received, counts);
+
+            return ProductUpsertResponse.builder()
+                    .received(received)
+                    .created(counts.getOrDefault(UpsertOutcome.CREATED, 0L))
+                    .updated(counts.getOrDefault(UpsertOutcome.UPDATED, 0L))
+                    .unchanged(counts.getOrDefault(UpsertOutcome.UNCHANGED, 0L))
+                    .failed(counts.getOrDefault(UpsertOutcome.FAILED, 0L))
+                    .results(results)
+                    .build();
+        }
+
+        @Override
+        protected void recordFailure(long record, String barcode, String message) {
+            addResult(new ProductUpsertResult(record, barcode, null, UpsertOutcome.FAILED, message));
+        }
+
+        @Override
+        protected void writeBatch(List<ImportRow> rows) {
+            transactionTemplate.execute(status -> upsertBatch(rows)).forEach(this::addResult);
+        }
+
+        private void addResult(ProductUpsertResult result) {
+            results.add(result);
+            counts.merge(result.getOutcome(), 1L, Long::sum);
+        }
+
+        private List<ProductUpsertResult> upsertBatch(List<ImportRow> rows) {
+            Map<String, Product> existing = productJdbcRepository.findByBarcodes(
+                            rows.stream().map(row -> row.request().getBarcode()).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(Product::getBarcode, Function.identity()));
+            Set<Integer> existingIds = existing.values().stream()
+                    .map(Product::getId)
+                    .collect(Collectors.toSet());
+            // Built by hand: attribute values may be null, which Collectors.toMap rejects
+            Map<Integer, Map<String, String>> currentAttributes = new HashMap<>();
+            productAttributeRepository.findByProductIdIn(existingIds).forEach(attribute -> currentAttributes
+                    .computeIfAbsent(attribute.getProductId(), id -> new HashMap<>())
+                    .put(attribute.getKey(), attribute.getValue()));
+            Map<Integer, List<ProductImageRequest>> currentImages = productImageRepository
+                    .findByProductIdInOrderByOrderAsc(existingIds).stream()
+                    .collect(Collectors.groupingBy(ProductImage::getProductId, Collectors.mapping(
+                            image -> new ProductImageRequest(image.getImageUrl(), image.getAltText(), image.getOrder()),
+                            Collectors.toList())));
+
+            List<ImportRow> changed = new ArrayList<>();
+            List<ProductUpsertResult> batchResults = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                ProductCreateRequest request = row.request();
+                Product current = existing.get(request.getBarcode());
+                if (current == null) {
+                    if (request.getStatus() == null) {
+                        request.setStatus(ProductStatus.DRAFT);
+                    }
+                    changed.add(row);
+                    continue;
+                }
+
+                Map<String, String> attributes = currentAttributes.getOrDefault(current.getId(), Map.of());
+                List<ProductImageRequest> images = currentImages.getOrDefault(current.getId(), List.of());
+                String currentHash = contentHash(toRequest(current), attributes, images);
+
+                mergeMissingValues(request, current);
+                String newHash = contentHash(request,
+                        request.getAttributes() != null ? request.getAttributes() : attributes,
+                        request.getImages() != null ? request.getImages() : images);
+
+                if (currentHash.equals(newHash)) {
+                    batchResults.add(new ProductUpsertResult(
+                            row.record(), request.getBarcode(), current.getId(), UpsertOutcome.UNCHANGED, null));
+                } else {
+                    changed.add(row);
+                }
+            }
+
+            List<ProductCreateRequest> products = changed.stream()
+                    .map(ImportRow::request)
+                    .collect(Collectors.toList());
+            Map<String, Integer> ids = productJdbcRepository.upsertProducts(products);
+
+            // Present sections replace the current ones
+            productJdbcRepository.deleteAttributesByProductIds(products.stream()
+                    .filter(product -> product.getAttributes() != null && existing.containsKey(product.getBarcode()))
+                    .map(product -> ids.get(product.getBarcode()))
+                    .collect(Collectors.toList()));
+            productJdbcRepository.deleteImagesByProductIds(products.stream()
+                    .filter(product -> product.getImages() != null && existing.containsKey(product.getBarcode()))
+                    .map(product -> ids.get(product.getBarcode()))
+                    .collect(Collectors.toList()));
+            writeChildren(products, ids);
+
+            List<Integer> createdIds = new ArrayList<>();
+            List<Integer> updatedIds = new ArrayList<>();
+            for (ImportRow row : changed) {
+                String barcode = row.request().getBarcode();
+                Integer productId = ids.get(barcode);
+                UpsertOutcome outcome = existing.containsKey(barcode) ? UpsertOutcome.UPDATED : UpsertOutcome.CREATED;
+                (outcome == UpsertOutcome.CREATED ? createdIds : updatedIds).add(productId);
+                batchResults.add(new ProductUpsertResult(row.record(), barcode, productId, outcome, null));
+            }
+
+            qualityScoreService.updateQualityScores(ids.values());
+            if (!createdIds.isEmpty()) {
+                eventPublisher.publishEvent(new ProductChangedEvent(createdIds, ProductChangeType.CREATED));
+            }
+            if (!updatedIds.isEmpty()) {
+                eventPublisher.publishEvent(new ProductChangedEvent(updatedIds, ProductChangeType.UPDATED));
+            }
+            return batchResults;
+        }
+
+        // Empty values keep the current value, as in the single update endpoint
+        private void mergeMissingValues(ProductCreateRequest request, Product current) {
+            if (request.getCategoryId() == null) {
+                request.setCategoryId(current.getCategoryId());
+            }
+            if (request.getBrandId() == null) {
+                request.setBrandId(current.getBrandId());
+            }
+            if (request.getTitle() == null) {
+                request.setTitle(current.getTitle());
+            }
+            if (request.getDescription() == null) {
+                request.setDescription(current.getDescription());
+            }
+            if (request.getStatus() == null) {
+                request.setStatus(current.getStatus());
+            }
+        }
+
+        private ProductCreateRequest toRequest(Product product) {
+            ProductCreateRequest request = new ProductCreateRequest();
+            request.setBarcode(product.getBarcode());
+            request.setCategoryId(product.getCategoryId());
+            request.setBrandId(product.getBrandId());
+            request.setTitle(product.getTitle());
+            request.setDescription(product.getDescription());
+            request.setStatus(product.getStatus());
+            return request;
+        }
+    }
+}
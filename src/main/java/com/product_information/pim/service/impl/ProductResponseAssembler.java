@@ -0,0 +1,216 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.request.ProductFieldSelection;
+import com.product_information.pim.dto.response.ProductImageResponse;
+import com.product_information.pim.dto.response.ProductResponse;
+import com.product_information.pim.dto.response.QualityResponse;
+import com.product_information.pim.entity.*;
+import com.product_information.pim.exception.ResourceNotFoundException;
+import com.product_information.pim.mapper.ProductImageMapper;
+import com.product_information.pim.mapper.ProductMapper;
+import com.product_information.pim.mapper.QualityMapper;
+import com.product_information.pim.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds full product responses for a set of products with one query per
+ * related table instead of one round trip per product and table.
+ * Quality rows are expected to be fetched together with the products.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductResponseAssembler {
+
+    private static final int PROJECTION_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final BrandRepository brandRepository;
+    private final ProductAttributeRepository productAttributeRepository;
+    private final ProductImageRepository productImageRepository;
+    private final QualityRepository qualityRepository;
+    private final ProductMapper productMapper;
+    private final ProductImageMapper productImageMapper;
+    private final QualityMapper qualityMapper;
+
+    public ProductResponse assemble(Integer productId) {
+        List<ProductResponse> responses = assembleByIds(List.of(productId));
+        if (responses.isEmpty()) {
+            throw new ResourceNotFoundException("Product", "id", productId);
+        }
+        return responses.get(0);
+    }
+
+    /**
+     * Loads the given products and assembles them in the order of the id list.
+     * Ids that do not exist are skipped.
+     */
+    public List<ProductResponse> assembleByIds(List<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Product> productsById = productRepository.findAllWithQualityByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> ordered = productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return assemble(ordered);
+    }
+
+    public List<ProductResponse> assemble(List<Product> products) {
+        if (products.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> productIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+
+        Set<Integer> categoryIds = products.stream()
+                .map(Product::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Integer> brandIds = products.stream()
+                .map(Product::getBrandId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Integer, Category> categories = categoryIds.isEmpty()
+                ? Map.of()
+                : categoryRepository.findAllById(categoryIds).stream()
+                        .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Integer, Brand> brands = brandIds.isEmpty()
+                ? Map.of()
+                : brandRepository.findAllById(brandIds).stream()
+                        .collect(Collectors.toMap(Brand::getId, Function.identity()));
+
+        Map<Integer, List<ProductAttribute>> attributes = productAttributeRepository.findByProductIdIn(productIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProductAttribute::getProductId));
+        Map<Integer, List<ProductImage>> images = productImageRepository.findByProductIdInOrderByOrderAsc(productIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProductImage::getProductId));
+
+        return products.stream()
+                .map(product -> productMapper.toFullResponse(
+                        product,
+                        product.getCategoryId() != null ? categories.get(product.getCategoryId()) : null,
+                        product.getBrandId() != null ? brands.get(product.getBrandId()) : null,
+                        attributes.get(product.getId()),
+                        images.get(product.getId()),
+                        product.getQuality()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Assembles only the requested fields of the given products, in the order
+     * of the id list. Related tables are only queried for sections that were
+     * requested, and product rows are read as column projections.
+     */
+    public List<Map<String, Object>> assembleFields(List<Integer> productIds, ProductFieldSelection selection) {
+        List<Map<String, Object>> result = new ArrayList<>(productIds.size());
+        for (int from = 0; from < productIds.size(); from += PROJECTION_BATCH_SIZE) {
+            List<Integer> batch = productIds.subList(from, Math.min(from + PROJECTION_BATCH_SIZE, productIds.size()));
+            result.addAll(assembleFieldsBatch(batch, selection));
+        }
+        return result;
+    }
+
+    private List<Map<String, Object>> assembleFieldsBatch(List<Integer> productIds, ProductFieldSelection selection) {
+        Map<Integer, Map<String, Object>> rows = productRepository
+                .findColumnsByIdIn(productIds, selection.getColumnsToLoad()).stream()
+                .collect(Collectors.toMap(row -> (Integer) row.get(ProductFieldSelection.ID), Function.identity()));
+
+        Map<Integer, String> categoryNames = new HashMap<>();
+        if (selection.includes(ProductFieldSelection.CATEGORY_NAME)) {
+            categoryRepository.findAllById(referencedIds(rows, ProductFieldSelection.CATEGORY_ID))
+                    .forEach(category -> categoryNames.put(category.getId(), category.getName()));
+        }
+        Map<Integer, String> brandNames = new HashMap<>();
+        if (selection.includes(ProductFieldSelection.BRAND_NAME)) {
+            brandRepository.findAllById(referencedIds(rows, ProductFieldSelection.BRAND_ID))
+                    .forEach(brand -> brandNames.put(brand.getId(), brand.getName()));
+        }
+        Map<Integer, Map<String, String>> attributes = selection.includes(ProductFieldSelection.ATTRIBUTES)
+                ? productAttributeRepository.findByProductIdIn(productIds).stream()
+                        .collect(Collectors.groupingBy(ProductAttribute::getProductId, Collectors.toMap(
+                                ProductAttribute::getKey,
+                                ProductAttribute::getValue,
+                                (existing, replacement) -> replacement,
+                                LinkedHashMap::new)))
+                : Map.of();
+        Map<Integer, List<ProductImageResponse>> images = selection.includes(ProductFieldSelection.IMAGES)
+                ? productImageRepository.findByProductIdInOrderByOrderAsc(productIds).stream()
+                        .collect(Collectors.groupingBy(ProductImage::getProductId,
+                                Collectors.mapping(productImageMapper::toResponse, Collectors.toList())))
+                : Map.of();
+        Map<Integer, Quality> qualities = selection.includes(ProductFieldSelection.QUALITY)
+                ? qualityRepository.findByProductIdIn(productIds).stream()
+                        .collect(Collectors.toMap(Quality::getProductId, Function.identity()))
+                : Map.of();
+
+        List<Map<String, Object>> result = new ArrayList<>(productIds.size());
+        for (Integer productId : productIds) {
+            Map<String, Object> row = rows.get(productId);
+            if (row == null) {
+                continue;
+            }
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            for (String field : ProductFieldSelection.FIELDS) {
+                if (!selection.includes(field)) {
+                    continue;
+                }
+                switch (field) {
+                    case ProductFieldSelection.CATEGORY_NAME ->
+                            response.put(field, categoryNames.get((Integer) row.get(ProductFieldSelection.CATEGORY_ID)));
+                    case ProductFieldSelection.BRAND_NAME ->
+                            response.put(field, brandNames.get((Integer) row.get(ProductFieldSelection.BRAND_ID)));
+                    case ProductFieldSelection.ATTRIBUTES ->
+                            response.put(field, attributes.getOrDefault(productId, Map.of()));
+                    case ProductFieldSelection.IMAGES ->
+                            response.put(field, images.getOrDefault(productId, List.of()));
+                    case ProductFieldSelection.QUALITY ->
+                            response.put(field, toQualityFields(qualities.get(productId), selection));
+                    default -> response.put(field, row.get(field));
+                }
+            }
+            result.add(response);
+        }
+        return result;
+    }
+
+    private Set<Integer> referencedIds(Map<Integer, Map<String, Object>> rows, String column) {
+        return rows.values().stream()
+                .map(row -> (Integer) row.get(column))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<String, Object> toQualityFields(Quality quality, ProductFieldSelection selection) {
+        if (quality == null) {
+            return null;
+        }
+
+        QualityResponse response = qualityMapper.toResponse(quality);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", response.getId());
+        fields.put("score", response.getScore());
+        fields.put("result", response.getResult());
+        fields.put("createdAt", response.getCreatedAt());
+        fields.put("updatedAt", response.getUpdatedAt());
+        if (!selection.getQualityFields().isEmpty()) {
+            fields.keySet().retainAll(selection.getQualityFields());
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,331 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.request.ProductSearchCriteria;
+import com.product_information.pim.entity.Product;
+import com.product_information.pim.entity.ProductAttribute;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.enums.ProductFacet;
+import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.enums.SearchMode;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.repository.ProductAttributeRepository;
+import com.product_information.pim.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over product title, description, barcode and
+ * attribute values, used for keyword search when pim.search.mode=INDEX.
+ * Exact attribute key/value pairs get their own postings for attribute filters.
+ * Built at startup and updated after each committed product or attribute
+ * change. Keyword terms are ANDed; the last term also matches as a prefix.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    // Exact key/value postings start with a character no keyword token can contain, which also
+    // separates key from value: PostgreSQL text cannot hold NUL, so it occurs in neither
+    private static final String ATTRIBUTE_SEPARATOR = "\u0000";
+
+    private final ProductRepository productRepository;
+    private final ProductAttributeRepository productAttributeRepository;
+    private final CategoryTreeSnapshot categoryTreeSnapshot;
+
+    private final ConcurrentSkipListMap<String, Set<Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Integer, IndexedProduct> documents = new ConcurrentHashMap<>();
+
+    @Value("${pim.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    private volatile boolean ready;
+
+    // Products changed while the build scan is running, re-read once it finishes
+    private volatile Set<Integer> changedDuringBuild;
+
+    public boolean isReady() {
+        return searchMode == SearchMode.INDEX && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (searchMode != SearchMode.INDEX) {
+            return;
+        }
+        log.info("Building product search index");
+        long start = System.currentTimeMillis();
+        Set<Integer> changed = ConcurrentHashMap.newKeySet();
+        changedDuringBuild = changed;
+
+        int afterId = 0;
+        int count = 0;
+        List<Product> chunk;
+        try {
+            do {
+                chunk = productRepository.findNextByIdAfter(afterId, Limit.of(BUILD_CHUNK_SIZE));
+                if (!chunk.isEmpty()) {
+                    index(chunk);
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                    count += chunk.size();
+                }
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+        } finally {
+            changedDuringBuild = null;
+        }
+        // A chunk read before a concurrent write may have been indexed after that write's event
+        if (!changed.isEmpty()) {
+            reload(changed);
+        }
+
+        ready = true;
+        log.info("Product search index built with {} products and {} terms in {} ms",
+                count, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (searchMode != SearchMode.INDEX
+                || event.getType() == ProductChangeType.IMAGES
+                || event.getType() == ProductChangeType.QUALITY) {
+            return;
+        }
+        Set<Integer> changed = changedDuringBuild;
+        if (changed != null) {
+            changed.addAll(event.getProductIds());
+        }
+        if (event.getType() == ProductChangeType.DELETED) {
+            event.getProductIds().forEach(this::remove);
+            return;
+        }
+
+        reload(event.getProductIds());
+    }
+
+    /**
+     * Re-indexes the products from the database, removing those that no
+     * longer exist.
+     */
+    private void reload(Collection<Integer> productIds) {
+        List<Product> products = productRepository.findAllById(productIds);
+        index(products);
+
+        Set<Integer> found = products.stream().map(Product::getId).collect(Collectors.toSet());
+        productIds.stream()
+                .filter(id -> !found.contains(id))
+                .forEach(this::remove);
+    }
+
+    /**
+     * Returns the requested page of matching product ids in ascending id order.
+     */
+    public Page<Integer> search(ProductSearchCriteria criteria, Pageable pageable) {
+        List<Integer> matches = match(criteria);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(new ArrayList<>(matches.subList(from, to)), pageable, matches.size());
+    }
+
+    /**
+     * Returns up to limit matching product ids greater than afterId.
+     */
+    public List<Integer> searchAfter(ProductSearchCriteria criteria, int afterId, int limit) {
+        List<Integer> matches = match(criteria);
+        int position = Collections.binarySearch(matches, afterId);
+        int from = position >= 0 ? position + 1 : -position - 1;
+        int to = Math.min(from + limit, matches.size());
+        return new ArrayList<>(matches.subList(from, to));
+    }
+
+    /**
+     * Counts matching products per facet value in one pass over the matches.
+     */
+    public Map<ProductFacet, Map<String, Long>> countFacets(
+            ProductSearchCriteria criteria, Set<ProductFacet> facets) {
+        Map<ProductFacet, Map<String, Long>> result = new EnumMap<>(ProductFacet.class);
+        facets.forEach(facet -> result.put(facet, new LinkedHashMap<>()));
+
+        for (Integer id : match(criteria)) {
+            IndexedProduct document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            for (ProductFacet facet : facets) {
+                Object value = switch (facet) {
+                    case STATUS -> document.status();
+                    case BRAND -> document.brandId();
+                    case CATEGORY -> document.categoryId();
+                };
+                if (value != null) {
+                    result.get(facet).merge(value.toString(), 1L, Long::sum);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Integer> match(ProductSearchCriteria criteria) {
+        List<String> terms = tokenize(criteria.getKeyword());
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Set<Integer>> termPostings = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            boolean prefix = i == terms.size() - 1;
+            Set<Integer> ids = prefix ? prefixPostings(terms.get(i)) : postings.get(terms.get(i));
+            if (ids == null || ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            termPostings.add(ids);
+        }
+        if (criteria.hasAttributes()) {
+            for (Map.Entry<String, String> attribute : criteria.getAttributes().entrySet()) {
+                Set<Integer> ids = postings.get(attributeToken(attribute.getKey(), attribute.getValue()));
+                if (ids == null || ids.isEmpty()) {
+                    return new ArrayList<>();
+                }
+                termPostings.add(ids);
+            }
+        }
+        termPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> smallest = termPostings.get(0);
+        List<Set<Integer>> others = termPostings.subList(1, termPostings.size());
+
+        Set<Integer> categoryIds = criteria.hasCategorySubtree()
+                ? categoryTreeSnapshot.getSubtreeIds(criteria.getCategoryId())
+                : null;
+        List<Integer> result = new ArrayList<>();
+        for (Integer id : smallest) {
+            if (others.stream().allMatch(ids -> ids.contains(id))
+                    && matchesFilters(documents.get(id), criteria, categoryIds)) {
+                result.add(id);
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private Set<Integer> prefixPostings(String prefix) {
+        Map<String, Set<Integer>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        if (range.isEmpty()) {
+            return null;
+        }
+        if (range.size() == 1) {
+            return range.values().iterator().next();
+        }
+
+        Set<Integer> union = new HashSet<>();
+        range.values().forEach(union::addAll);
+        return union;
+    }
+
+    /**
+     * @param categoryIds the category subtree to match when descendants are
+     *                    included, otherwise null
+     */
+    private boolean matchesFilters(IndexedProduct document, ProductSearchCriteria criteria, Set<Integer> categoryIds) {
+        if (document == null) {
+            return false;
+        }
+        boolean categoryMatches = categoryIds != null
+                ? categoryIds.contains(document.categoryId())
+                : criteria.getCategoryId() == null || criteria.getCategoryId().equals(document.categoryId());
+        return (criteria.getStatus() == null || criteria.getStatus() == document.status())
+                && categoryMatches
+                && (criteria.getBrandId() == null || criteria.getBrandId().equals(document.brandId()));
+    }
+
+    private void index(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = products.stream().map(Product::getId).collect(Collectors.toList());
+        Map<Integer, List<ProductAttribute>> attributes = productAttributeRepository.findByProductIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ProductAttribute::getProductId));
+
+        for (Product product : products) {
+            put(product, attributes.getOrDefault(product.getId(), List.of()));
+        }
+    }
+
+    private synchronized void put(Product product, List<ProductAttribute> attributes) {
+        Set<String> tokens = new HashSet<>();
+        tokens.addAll(tokenize(product.getTitle()));
+        tokens.addAll(tokenize(product.getDescription()));
+        tokens.addAll(tokenize(product.getBarcode()));
+        attributes.forEach(attribute -> {
+            tokens.addAll(tokenize(attribute.getValue()));
+            tokens.add(attributeToken(attribute.getKey(), attribute.getValue()));
+        });
+
+        Integer id = product.getId();
+        IndexedProduct previous = documents.put(id, new IndexedProduct(
+                tokens, product.getStatus(), product.getCategoryId(), product.getBrandId()));
+
+        if (previous != null) {
+            previous.tokens().stream()
+                    .filter(token -> !tokens.contains(token))
+                    .forEach(token -> removePosting(token, id));
+        }
+        tokens.forEach(token -> postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    private synchronized void remove(Integer productId) {
+        IndexedProduct previous = documents.remove(productId);
+        if (previous != null) {
+            previous.tokens().forEach(token -> removePosting(token, productId));
+        }
+    }
+
+    private void removePosting(String token, Integer productId) {
+        postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(productId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private String attributeToken(String key, String value) {
+        return ATTRIBUTE_SEPARATOR + key + ATTRIBUTE_SEPARATOR + value;
+    }
+
+    private List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private record IndexedProduct(Set<String> tokens, ProductStatus status, Integer categoryId, Integer brandId) {
+    }
+}
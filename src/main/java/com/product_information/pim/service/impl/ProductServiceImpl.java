@@ -1,26 +1,53 @@
 package com.product_information.pim.service.impl;
 
+import com.product_information.pim.cache.BarcodeLookupCache;
+import com.product_information.pim.cache.ProductResponseCache;
+import com.product_information.pim.dto.request.BulkStatusUpdateRequest;
 import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.dto.request.ProductFieldSelection;
+import com.product_information.pim.dto.request.ProductSearchCriteria;
 import com.product_information.pim.dto.request.ProductUpdateRequest;
+import com.product_information.pim.dto.response.BulkStatusUpdateResponse;
+import com.product_information.pim.dto.response.CursorPageResponse;
 import com.product_information.pim.dto.response.ProductResponse;
 import com.product_information.pim.entity.*;
+import com.product_information.pim.enums.ProductChangeType;
 import com.product_information.pim.enums.ProductStatus;
+import com.product_information.pim.enums.SearchMode;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.exception.BusinessException;
 import com.product_information.pim.exception.DuplicateResourceException;
 import com.product_information.pim.exception.ResourceNotFoundException;
 import com.product_information.pim.mapper.ProductImageMapper;
 import com.product_information.pim.mapper.ProductMapper;
 import com.product_information.pim.repository.*;
+import com.product_information.pim.repository.projection.ProductVersion;
 import com.product_information.pim.service.ProductService;
 import com.product_information.pim.service.QualityScoreService;
+import com.product_information.pim.util.CursorUtil;
+import com.product_information.pim.util.ETagUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,15 +55,28 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProductServiceImpl implements ProductService {
 
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
     private final CategoryRepository categoryRepository;
     private final ProductAttributeRepository productAttributeRepository;
     private final ProductImageRepository productImageRepository;
-    private final QualityRepository qualityRepository;
     private final ProductMapper productMapper;
     private final ProductImageMapper productImageMapper;
     private final QualityScoreService qualityScoreService;
+    private final ProductResponseAssembler productResponseAssembler;
+    private final EntityManager entityManager;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BarcodeLookupCache barcodeLookupCache;
+    private final ProductResponseCache productResponseCache;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${pim.search.mode:LIKE}")
+    private SearchMode searchMode;
 
     @Override
     public ProductResponse create(ProductCreateRequest request) {
@@ -78,7 +118,9 @@ public class ProductServiceImpl implements ProductService {
         }
 
         // Calculate and save quality score
-        qualityScoreService.updateQualityScore(savedProduct.getId());
+        qualityScoreService.requestQualityScore(savedProduct.getId());
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(savedProduct.getId(), ProductChangeType.CREATED));
 
         log.info("Product created successfully with id: {}", savedProduct.getId());
         return getFullProductResponse(savedProduct.getId());
@@ -134,29 +176,49 @@ public class ProductServiceImpl implements ProductService {
             }
         }
 
+        // Child-only changes leave the product row clean, so @UpdateTimestamp would not fire
+        if (request.getAttributes() != null || request.getImages() != null) {
+            productRepository.touchUpdatedAt(List.of(id), LocalDateTime.now());
+        }
+
         // Recalculate quality score after update
-        qualityScoreService.updateQualityScore(id);
+        qualityScoreService.requestQualityScore(id);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.UPDATED));
 
         log.info("Product updated successfully with id: {}", id);
         return getFullProductResponse(id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductResponse getById(Integer id) {
         log.info("Fetching product with id: {}", id);
-        return getFullProductResponse(id);
+        return productResponseCache.get(id, this::getFullProductResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductResponse getByBarcode(String barcode) {
         log.info("Fetching product with barcode: {}", barcode);
 
-        Product product = productRepository.findByBarcode(barcode)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "barcode", barcode));
+        // No transaction is opened up front so cache hits never borrow a connection
+        return barcodeLookupCache.get(barcode, key -> {
+            Product product = productRepository.findByBarcode(key)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", "barcode", key));
 
-        return getFullProductResponse(product.getId());
+            return getFullProductResponse(product.getId());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVersionTag(Integer id) {
+        ProductVersion version = productRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
+
+        return ETagUtil.of(id, version.getProductUpdatedAt(), version.getQualityUpdatedAt(),
+                version.getBrandUpdatedAt(), version.getCategoryUpdatedAt());
     }
 
     @Override
@@ -164,9 +226,7 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductResponse> getAll() {
         log.info("Fetching all products");
 
-        return productRepository.findAll().stream()
-                .map(product -> getFullProductResponse(product.getId()))
-                .collect(Collectors.toList());
+        return productResponseAssembler.assemble(productRepository.findAll());
     }
 
     @Override
@@ -174,8 +234,46 @@ public class ProductServiceImpl implements ProductService {
     public Page<ProductResponse> getAll(Pageable pageable) {
         log.info("Fetching all products with pagination");
 
-        return productRepository.findAll(pageable)
-                .map(product -> getFullProductResponse(product.getId()));
+        return toResponsePage(productRepository.findAll(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAll(ProductFieldSelection fields) {
+        log.info("Fetching all products with fields: {}", fields.getFields());
+
+        return productResponseAssembler.assembleFields(productRepository.findAllIds(), fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAll(Pageable pageable, ProductFieldSelection fields) {
+        log.info("Fetching all products with pagination and fields: {}", fields.getFields());
+
+        Page<Integer> ids = productRepository.findIds(pageable);
+        return new PageImpl<>(
+                productResponseAssembler.assembleFields(ids.getContent(), fields), pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ProductResponse> consumer) {
+        log.info("Streaming all products");
+
+        long count = 0;
+        List<Product> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        try (Stream<Product> products = productRepository.streamAll()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    count += writeChunk(chunk, consumer);
+                }
+            }
+        }
+        count += writeChunk(chunk, consumer);
+
+        log.info("Streamed {} products", count);
     }
 
     @Override
@@ -186,11 +284,98 @@ public class ProductServiceImpl implements ProductService {
             Integer categoryId,
             Integer brandId,
             Pageable pageable) {
-        log.info("Searching products with filters - keyword: {}, status: {}, categoryId: {}, brandId: {}",
-                keyword, status, categoryId, brandId);
+        return search(ProductSearchCriteria.builder()
+                .keyword(keyword)
+                .status(status)
+                .categoryId(categoryId)
+                .brandId(brandId)
+                .build(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> search(ProductSearchCriteria criteria, Pageable pageable) {
+        log.info("Searching products with criteria: {}", criteria);
+
+        if (useSearchIndex(criteria, pageable)) {
+            Page<Integer> ids = productSearchIndex.search(criteria, pageable);
+            return new PageImpl<>(
+                    productResponseAssembler.assembleByIds(ids.getContent()), pageable, ids.getTotalElements());
+        }
+        if (useNativeSearch(criteria)) {
+            Page<Integer> ids = productRepository.searchIds(criteria, pageable, useFullTextSearch(criteria));
+            return new PageImpl<>(
+                    productResponseAssembler.assembleByIds(ids.getContent()), pageable, ids.getTotalElements());
+        }
+
+        return toResponsePage(productRepository.searchProductsWithFilters(
+                criteria.getKeyword(), criteria.getStatus(), criteria.getCategoryId(), criteria.getBrandId(), pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> search(
+            ProductSearchCriteria criteria, Pageable pageable, ProductFieldSelection fields) {
+        log.info("Searching products with criteria: {} and fields: {}", criteria, fields.getFields());
+
+        // Both id searches cover every criterion, so the JPQL entity search is not needed here
+        Page<Integer> ids = useSearchIndex(criteria, pageable)
+                ? productSearchIndex.search(criteria, pageable)
+                : productRepository.searchIds(criteria, pageable, useFullTextSearch(criteria));
+        return new PageImpl<>(
+                productResponseAssembler.assembleFields(ids.getContent(), fields), pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> getAllByCursor(String cursor, int size) {
+        log.info("Fetching products after cursor: {}", cursor);
+
+        int afterId = CursorUtil.decode(cursor);
+        return toCursorPage(productRepository.findNextByIdAfter(afterId, Limit.of(size + 1)), size);
+    }
 
-        return productRepository.searchProductsWithFilters(keyword, status, categoryId, brandId, pageable)
-                .map(product -> getFullProductResponse(product.getId()));
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> searchWithFiltersByCursor(
+            String keyword,
+            ProductStatus status,
+            Integer categoryId,
+            Integer brandId,
+            String cursor,
+            int size) {
+        return searchByCursor(ProductSearchCriteria.builder()
+                .keyword(keyword)
+                .status(status)
+                .categoryId(categoryId)
+                .brandId(brandId)
+                .build(), cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> searchByCursor(ProductSearchCriteria criteria, String cursor, int size) {
+        log.info("Searching products after cursor: {} with criteria: {}", cursor, criteria);
+
+        int afterId = CursorUtil.decode(cursor);
+        if (useSearchIndex(criteria, Pageable.unpaged())) {
+            return toCursorPageFromIds(productSearchIndex.searchAfter(criteria, afterId, size + 1), size);
+        }
+        if (useNativeSearch(criteria)) {
+            return toCursorPageFromIds(
+                    productRepository.searchIdsAfter(criteria, afterId, size + 1, useFullTextSearch(criteria)),
+                    size);
+        }
+
+        return toCursorPage(
+                productRepository.searchNextWithFilters(
+                        criteria.getKeyword(),
+                        criteria.getStatus(),
+                        criteria.getCategoryId(),
+                        criteria.getBrandId(),
+                        afterId,
+                        Limit.of(size + 1)),
+                size);
     }
 
     @Override
@@ -201,6 +386,7 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.DELETED));
 
         log.info("Product deleted successfully with id: {}", id);
     }
@@ -214,24 +400,134 @@ public class ProductServiceImpl implements ProductService {
 
         product.setStatus(status);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id, ProductChangeType.UPDATED));
 
         log.info("Product status updated successfully");
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request) {
+        ProductStatus status = request.getStatus();
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byFilter = request.getFilter() != null && request.getFilter().hasFilters();
+        if (byIds == byFilter) {
+            throw new BusinessException("Either ids or a non-empty filter is required, but not both");
+        }
+        log.info("Updating product status to {} by {}", status, byIds ? "ids" : "filter " + request.getFilter());
+
+        long matched = 0;
+        long updated = 0;
+        if (byIds) {
+            List<Integer> ids = request.getIds().stream().distinct().collect(Collectors.toList());
+            for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+                // Ids that do not exist are not counted as matched
+                matched += productRepository.countByIdIn(chunk);
+                updated += updateStatusChunk(chunk, status);
+            }
+        } else {
+            // Seek by id, so products leaving the filter after their update do not shift later chunks
+            ProductSearchCriteria criteria = request.getFilter();
+            boolean fullText = useFullTextSearch(criteria);
+            int afterId = 0;
+            List<Integer> chunk;
+            do {
+                chunk = productRepository.searchIdsAfter(criteria, afterId, STATUS_UPDATE_CHUNK_SIZE, fullText);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                matched += chunk.size();
+                updated += updateStatusChunk(chunk, status);
+                afterId = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == STATUS_UPDATE_CHUNK_SIZE);
+        }
+
+        log.info("Product status set to {} for {} of {} matched products", status, updated, matched);
+        return BulkStatusUpdateResponse.builder()
+                .status(status)
+                .matched(matched)
+                .updated(updated)
+                .build();
+    }
+
+    /**
+     * Updates one chunk in its own transaction so row locks are held
+     * briefly, and publishes the change for the products that moved.
+     */
+    private int updateStatusChunk(List<Integer> productIds, ProductStatus status) {
+        return transactionTemplate.execute(tx -> {
+            List<Integer> changed = productJdbcRepository.updateStatus(productIds, status);
+            if (!changed.isEmpty()) {
+                eventPublisher.publishEvent(new ProductChangedEvent(changed, ProductChangeType.UPDATED));
+            }
+            return changed.size();
+        });
+    }
+
     private ProductResponse getFullProductResponse(Integer productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-
-        Category category = product.getCategoryId() != null
-                ? categoryRepository.findById(product.getCategoryId()).orElse(null)
-                : null;
-        Brand brand = product.getBrandId() != null
-                ? brandRepository.findById(product.getBrandId()).orElse(null)
-                : null;
-        List<ProductAttribute> attributes = productAttributeRepository.findByProductId(productId);
-        List<ProductImage> images = productImageRepository.findByProductIdOrderByOrderAsc(productId);
-        Quality quality = qualityRepository.findByProductId(productId).orElse(null);
-
-        return productMapper.toFullResponse(product, category, brand, attributes, images, quality);
+        return productResponseAssembler.assemble(productId);
+    }
+
+    /**
+     * Builds a cursor page from a result fetched with one extra row, which
+     * only tells whether a next page exists and is not returned.
+     */
+    private CursorPageResponse<ProductResponse> toCursorPage(List<Product> products, int size) {
+        boolean hasNext = products.size() > size;
+        List<Product> content = hasNext ? products.subList(0, size) : products;
+        String nextCursor = hasNext ? CursorUtil.encode(content.get(content.size() - 1).getId()) : null;
+
+        return new CursorPageResponse<>(productResponseAssembler.assemble(content), size, nextCursor, hasNext);
+    }
+
+    /**
+     * The in-memory index only serves keyword queries in id order; anything
+     * else, or a search before the index finished building, goes to the DB.
+     */
+    private boolean useSearchIndex(ProductSearchCriteria criteria, Pageable pageable) {
+        return searchMode == SearchMode.INDEX
+                && criteria.hasKeyword()
+                && pageable.getSort().isUnsorted()
+                && productSearchIndex.isReady();
+    }
+
+    private boolean useFullTextSearch(ProductSearchCriteria criteria) {
+        return searchMode == SearchMode.FULL_TEXT && criteria.hasKeyword();
+    }
+
+    /**
+     * Criteria the JPQL search cannot express are served by the native
+     * search in the custom repository fragment.
+     */
+    private boolean useNativeSearch(ProductSearchCriteria criteria) {
+        return useFullTextSearch(criteria) || criteria.hasAttributes() || criteria.hasCategorySubtree();
+    }
+
+    /**
+     * Assembles and hands over one chunk, then detaches it so the persistence
+     * context does not grow with the number of streamed products.
+     */
+    private int writeChunk(List<Product> chunk, Consumer<ProductResponse> consumer) {
+        int size = chunk.size();
+        if (size > 0) {
+            productResponseAssembler.assemble(chunk).forEach(consumer);
+            chunk.clear();
+            entityManager.clear();
+        }
+        return size;
+    }
+
+    private CursorPageResponse<ProductResponse> toCursorPageFromIds(List<Integer> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<Integer> content = hasNext ? ids.subList(0, size) : ids;
+        String nextCursor = hasNext ? CursorUtil.encode(content.get(content.size() - 1)) : null;
+
+        return new CursorPageResponse<>(productResponseAssembler.assembleByIds(content), size, nextCursor, hasNext);
+    }
+
+    private Page<ProductResponse> toResponsePage(Page<Product> page) {
+        List<ProductResponse> content = productResponseAssembler.assemble(page.getContent());
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
     }
 }
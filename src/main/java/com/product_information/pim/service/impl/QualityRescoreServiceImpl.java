@@ -0,0 +1,221 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.dto.response.QualityRescoreJobResponse;
+import com.product_information.pim.entity.QualityRescoreJob;
+import com.product_information.pim.enums.RescoreJobStatus;
+import com.product_information.pim.exception.BusinessException;
+import com.product_information.pim.exception.ResourceNotFoundException;
+import com.product_information.pim.repository.ProductRepository;
+import com.product_information.pim.repository.QualityRescoreJobRepository;
+import com.product_information.pim.service.QualityRescoreService;
+import com.product_information.pim.service.QualityScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rescores the whole catalog in the background. Products are walked in id
+ * order; each window of ids is split into chunks that are scored in parallel
+ * on virtual threads, one transaction and one batched upsert per chunk. The
+ * checkpoint is saved after every window, and a job still RUNNING at startup
+ * resumes from it. Not transactional at class level: the run spans many
+ * short transactions.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QualityRescoreServiceImpl implements QualityRescoreService {
+
+    private final QualityRescoreJobRepository jobRepository;
+    private final ProductRepository productRepository;
+    private final QualityScoreService qualityScoreService;
+
+    @Value("${pim.quality.rescore.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${pim.quality.rescore.parallelism:4}")
+    private int parallelism;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean cancelRequested;
+    private volatile boolean shuttingDown;
+
+    // Throughput is measured from when this process started or resumed the job
+    private volatile Integer activeJobId;
+    private volatile long runStartNanos;
+    private volatile long runStartProcessed;
+
+    @Override
+    public QualityRescoreJobResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("A quality rescore job is already running");
+        }
+        try {
+            QualityRescoreJob job = new QualityRescoreJob();
+            job.setStatus(RescoreJobStatus.RUNNING);
+            job.setLastProductId(0);
+            job.setTotalProducts(productRepository.count());
+            job.setProcessedProducts(0L);
+            job.setStartedAt(LocalDateTime.now());
+            job = jobRepository.save(job);
+
+            log.info("Starting quality rescore job {} for {} products", job.getId(), job.getTotalProducts());
+            launch(job);
+            return toResponse(job);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        jobRepository.findFirstByStatusOrderByIdDesc(RescoreJobStatus.RUNNING).ifPresent(job -> {
+            if (running.compareAndSet(false, true)) {
+                log.info("Resuming quality rescore job {} after product id {}", job.getId(), job.getLastProductId());
+                launch(job);
+            }
+        });
+    }
+
+    @Override
+    public QualityRescoreJobResponse getLatest() {
+        return jobRepository.findFirstByOrderByIdDesc()
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("No quality rescore job has been run"));
+    }
+
+    @Override
+    public QualityRescoreJobResponse cancel() {
+        if (!running.get()) {
+            throw new BusinessException("No quality rescore job is running");
+        }
+        cancelRequested = true;
+        return getLatest();
+    }
+
+    private void launch(QualityRescoreJob job) {
+        cancelRequested = false;
+        activeJobId = job.getId();
+        runStartNanos = System.nanoTime();
+        runStartProcessed = job.getProcessedProducts();
+        coordinator.execute(() -> run(job));
+    }
+
+    private void run(QualityRescoreJob job) {
+        int windowSize = chunkSize * parallelism;
+        try {
+            int afterId = job.getLastProductId();
+            List<Integer> ids;
+            do {
+                if (cancelRequested) {
+                    finish(job, RescoreJobStatus.CANCELLED, null);
+                    return;
+                }
+                ids = productRepository.findIdsAfter(afterId, Limit.of(windowSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                List<Callable<Void>> chunks = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Integer> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    chunks.add(() -> {
+                        qualityScoreService.updateQualityScores(chunk);
+                        return null;
+                    });
+                }
+                for (Future<Void> result : workers.invokeAll(chunks)) {
+                    result.get();
+                }
+
+                afterId = ids.get(ids.size() - 1);
+                job.setLastProductId(afterId);
+                job.setProcessedProducts(job.getProcessedProducts() + ids.size());
+                job = jobRepository.save(job);
+            } while (ids.size() == windowSize);
+
+            finish(job, RescoreJobStatus.COMPLETED, null);
+            log.info("Quality rescore job {} completed: {} products", job.getId(), job.getProcessedProducts());
+        } catch (InterruptedException e) {
+            // Left RUNNING on purpose; the next startup resumes from the checkpoint
+            Thread.currentThread().interrupt();
+            log.warn("Quality rescore job {} interrupted after product id {}", job.getId(), job.getLastProductId());
+        } catch (Exception e) {
+            // An interrupt inside JDBC surfaces as a data access or execution exception rather than
+            // InterruptedException; during shutdown the job must stay RUNNING so it resumes
+            if (shuttingDown || Thread.currentThread().isInterrupted()) {
+                log.warn("Quality rescore job {} stopped by shutdown after product id {}",
+                        job.getId(), job.getLastProductId(), e);
+                return;
+            }
+            log.error("Quality rescore job {} failed after product id {}", job.getId(), job.getLastProductId(), e);
+            finish(job, RescoreJobStatus.FAILED, e.getMessage());
+        } finally {
+            activeJobId = null;
+            running.set(false);
+        }
+    }
+
+    private void finish(QualityRescoreJob job, RescoreJobStatus status, String error) {
+        job.setStatus(status);
+        job.setError(error);
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private QualityRescoreJobResponse toResponse(QualityRescoreJob job) {
+        double percentComplete = job.getTotalProducts() > 0
+                ? Math.min(100.0, job.getProcessedProducts() * 100.0 / job.getTotalProducts())
+                : 100.0;
+
+        Double productsPerSecond = null;
+        if (job.getId().equals(activeJobId)) {
+            double seconds = (System.nanoTime() - runStartNanos) / 1_000_000_000.0;
+            productsPerSecond = seconds > 0 ? (job.getProcessedProducts() - runStartProcessed) / seconds : 0.0;
+        } else if (job.getFinishedAt() != null) {
+            double seconds = Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis() / 1000.0;
+            productsPerSecond = seconds > 0 ? job.getProcessedProducts() / seconds : null;
+        }
+
+        return QualityRescoreJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .cancelRequested(cancelRequested && job.getId().equals(activeJobId))
+                .lastProductId(job.getLastProductId())
+                .totalProducts(job.getTotalProducts())
+                .processedProducts(job.getProcessedProducts())
+                .percentComplete(percentComplete)
+                .productsPerSecond(productsPerSecond)
+                .error(job.getError())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+}
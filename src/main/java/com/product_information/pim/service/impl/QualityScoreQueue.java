@@ -0,0 +1,125 @@
+package com.product_information.pim.service.impl;
+
+import com.product_information.pim.event.QualityScoreRequestedEvent;
+import com.product_information.pim.service.QualityScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects products whose quality score is stale (pim.quality.mode=ASYNC)
+ * and recomputes them in batches. Ids are held in a set, so repeated writes
+ * to the same product within one window are scored once. An id stays
+ * queued while an earlier batch is still scoring it, so two workers never
+ * score the same product concurrently and an older score cannot overwrite
+ * a newer one.
+ */
+@Component
+@Slf4j
+public class QualityScoreQueue {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long SHUTDOWN_POLL_MS = 50;
+
+    private final QualityScoreService qualityScoreService;
+    private final int batchSize;
+    private final ExecutorService workers;
+
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    // Ids of batches submitted but not finished yet
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+    public QualityScoreQueue(
+            QualityScoreService qualityScoreService,
+            @Value("${pim.quality.async.batch-size:500}") int batchSize,
+            @Value("${pim.quality.async.workers:2}") int workers) {
+        this.qualityScoreService = qualityScoreService;
+        this.batchSize = batchSize;
+        this.workers = Executors.newFixedThreadPool(workers);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScoreRequested(QualityScoreRequestedEvent event) {
+        pending.add(event.getProductId());
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${pim.quality.async.window-ms:500}")
+    public synchronized void drain() {
+        List<Integer> batch = new ArrayList<>(batchSize);
+        Iterator<Integer> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Integer productId = iterator.next();
+            // Held back until the batch scoring it completes; picked up by a later window
+            if (!inFlight.add(productId)) {
+                continue;
+            }
+            batch.add(productId);
+            iterator.remove();
+            if (batch.size() == batchSize) {
+                submit(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    private void submit(List<Integer> productIds) {
+        workers.execute(() -> {
+            try {
+                qualityScoreService.updateQualityScores(productIds);
+            } catch (Exception e) {
+                log.warn("Failed to recompute quality scores for {} products, retrying one by one",
+                        productIds.size(), e);
+                productIds.forEach(this::scoreSingle);
+            } finally {
+                inFlight.removeAll(productIds);
+            }
+        });
+    }
+
+    // One bad product (e.g. deleted mid-batch) must not leave the rest of its batch stale
+    private void scoreSingle(Integer productId) {
+        try {
+            qualityScoreService.updateQualityScores(List.of(productId));
+        } catch (Exception e) {
+            log.error("Failed to recompute quality score for product {}", productId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Score whatever is still queued on a graceful shutdown; ids queued when the
+        // process dies are lost, and those scores stay stale until the product's next write
+        // or a rescore job. Ids held back behind a running batch are drained once it completes.
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        drain();
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(SHUTDOWN_POLL_MS);
+            drain();
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            log.warn("Quality score workers did not finish within 30 seconds");
+        }
+    }
+}
@@ -2,20 +2,35 @@ package com.product_information.pim.service.impl;
 
 import com.product_information.pim.dto.response.QualityResponse;
 import com.product_information.pim.entity.Product;
+import com.product_information.pim.entity.ProductAttribute;
 import com.product_information.pim.entity.Quality;
+import com.product_information.pim.enums.ProductChangeType;
+import com.product_information.pim.enums.QualityScoringMode;
+import com.product_information.pim.event.ProductChangedEvent;
+import com.product_information.pim.event.QualityScoreRequestedEvent;
 import com.product_information.pim.exception.ResourceNotFoundException;
 import com.product_information.pim.mapper.QualityMapper;
+import com.product_information.pim.repository.ProductAttributeRepository;
+import com.product_information.pim.repository.ProductImageRepository;
+import com.product_information.pim.repository.ProductJdbcRepository;
 import com.product_information.pim.repository.ProductRepository;
 import com.product_information.pim.repository.QualityRepository;
 import com.product_information.pim.service.QualityScoreService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,15 +39,108 @@ public class QualityScoreServiceImpl implements QualityScoreService {
 
     private final ProductRepository productRepository;
     private final QualityRepository qualityRepository;
+    private final ProductAttributeRepository productAttributeRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ProductJdbcRepository productJdbcRepository;
     private final QualityMapper qualityMapper;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${pim.quality.mode:SYNC}")
+    private QualityScoringMode scoringMode;
 
     @Override
     public Integer calculateScore(Product product) {
+        int imageCount = product.getProductImages() != null ? product.getProductImages().size() : 0;
+        return calculateScore(product, product.getProductAttributes(), imageCount);
+    }
+
+    @Override
+    @Transactional
+    public void updateQualityScore(Integer productId) {
+        log.info("Updating quality score for product id: {}", productId);
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
+
+        List<ProductAttribute> attributes = product.getProductAttributes();
+        int imageCount = product.getProductImages() != null ? product.getProductImages().size() : 0;
+        Integer score = calculateScore(product, attributes, imageCount);
+
+        try {
+            String resultJson = buildResultJson(product, attributes, imageCount, score);
+
+            Quality quality = qualityRepository.findByProductId(productId)
+                    .orElse(new Quality());
+
+            quality.setProductId(productId);
+            quality.setScore(score);
+            quality.setResult(resultJson);
+
+            quality = qualityRepository.save(quality);
+            product.setQuality(quality);
+            eventPublisher.publishEvent(ProductChangedEvent.of(productId, ProductChangeType.QUALITY));
+
+            log.info("Quality score updated successfully for product {}: {}", productId, score);
+        } catch (Exception e) {
+            log.error("Error updating quality score for product {}", productId, e);
+            throw new RuntimeException("Failed to update quality score", e);
+        }
+    }
+
+    @Override
+    public void requestQualityScore(Integer productId) {
+        if (scoringMode == QualityScoringMode.ASYNC) {
+            eventPublisher.publishEvent(new QualityScoreRequestedEvent(productId));
+        } else {
+            updateQualityScore(productId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateQualityScores(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        log.info("Updating quality scores for {} products", productIds.size());
+
+        List<Product> products = productRepository.findAllWithQualityByIdIn(productIds);
+        Map<Integer, List<ProductAttribute>> attributes = productAttributeRepository.findByProductIdIn(productIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProductAttribute::getProductId));
+        Map<Integer, Long> imageCounts = productImageRepository.countByProductIdIn(productIds)
+                .stream()
+                .collect(Collectors.toMap(row -> (Integer) row[0], row -> (Long) row[1]));
+
+        List<Quality> qualities = new ArrayList<>(products.size());
+        for (Product product : products) {
+            List<ProductAttribute> productAttributes = attributes.getOrDefault(product.getId(), List.of());
+            int imageCount = imageCounts.getOrDefault(product.getId(), 0L).intValue();
+            Integer score = calculateScore(product, productAttributes, imageCount);
+
+            Quality quality = new Quality();
+            quality.setProductId(product.getId());
+            quality.setScore(score);
+            try {
+                quality.setResult(buildResultJson(product, productAttributes, imageCount, score));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to update quality score", e);
+            }
+            qualities.add(quality);
+        }
+
+        productJdbcRepository.upsertQualities(qualities);
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                qualities.stream().map(Quality::getProductId).collect(Collectors.toList()),
+                ProductChangeType.QUALITY));
+
+        log.info("Quality scores updated for {} products", qualities.size());
+    }
+
+    private Integer calculateScore(Product product, List<ProductAttribute> attributes, int imageCount) {
         int totalFields = 0;
         int filledFields = 0;
-        int attributeCount = 0;
-        int filledAttributes = 0;
 
         // Barcode (required - always filled)
         totalFields++;
@@ -69,18 +177,14 @@ public class QualityScoreServiceImpl implements QualityScoreService {
         }
 
         // Attributes (dynamic, count each key/value pair)
-        if (product.getProductAttributes() != null && !product.getProductAttributes().isEmpty()) {
-            attributeCount = product.getProductAttributes().size();
-            filledAttributes = (int) product.getProductAttributes().stream()
-                    .filter(attr -> attr.getValue() != null && !attr.getValue().trim().isEmpty())
-                    .count();
-            totalFields += attributeCount;
-            filledFields += filledAttributes;
+        if (attributes != null && !attributes.isEmpty()) {
+            totalFields += attributes.size();
+            filledFields += countFilled(attributes);
         }
 
         // Images (optional)
         totalFields++;
-        if (product.getProductImages() != null && !product.getProductImages().isEmpty()) {
+        if (imageCount > 0) {
             filledFields++;
         }
 
@@ -93,23 +197,8 @@ public class QualityScoreServiceImpl implements QualityScoreService {
         return score;
     }
 
-    @Override
-    @Transactional
-    public void updateQualityScore(Integer productId) {
-        log.info("Updating quality score for product id: {}", productId);
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-
-        int attributeCount = product.getProductAttributes() != null ? product.getProductAttributes().size() : 0;
-        int filledAttributes = product.getProductAttributes() != null
-                ? (int) product.getProductAttributes().stream()
-                        .filter(attr -> attr.getValue() != null && !attr.getValue().trim().isEmpty())
-                        .count()
-                : 0;
-
-        Integer score = calculateScore(product);
-
+    private String buildResultJson(Product product, List<ProductAttribute> attributes, int imageCount, Integer score)
+            throws JsonProcessingException {
         // Create detailed result JSON
         Map<String, Object> result = new HashMap<>();
         result.put("hasTitle", product.getTitle() != null && !product.getTitle().trim().isEmpty());
@@ -117,28 +206,18 @@ public class QualityScoreServiceImpl implements QualityScoreService {
         result.put("hasBrand", product.getBrandId() != null);
         result.put("hasStatus", product.getStatus() != null);
         result.put("hasDescription", product.getDescription() != null && !product.getDescription().trim().isEmpty());
-        result.put("attributeCount", attributeCount);
-        result.put("filledAttributeCount", filledAttributes);
-        result.put("imageCount", product.getProductImages() != null ? product.getProductImages().size() : 0);
+        result.put("attributeCount", attributes != null ? attributes.size() : 0);
+        result.put("filledAttributeCount", attributes != null ? countFilled(attributes) : 0);
+        result.put("imageCount", imageCount);
         result.put("completenessPercentage", score);
 
-        try {
-            String resultJson = objectMapper.writeValueAsString(result);
-
-            Quality quality = qualityRepository.findByProductId(productId)
-                    .orElse(new Quality());
-
-            quality.setProductId(productId);
-            quality.setScore(score);
-            quality.setResult(resultJson);
-
-            qualityRepository.save(quality);
+        return objectMapper.writeValueAsString(result);
+    }
 
-            log.info("Quality score updated successfully for product {}: {}", productId, score);
-        } catch (Exception e) {
-            log.error("Error updating quality score for product {}", productId, e);
-            throw new RuntimeException("Failed to update quality score", e);
-        }
+    private int countFilled(List<ProductAttribute> attributes) {
+        return (int) attributes.stream()
+                .filter(attr -> attr.getValue() != null && !attr.getValue().trim().isEmpty())
+                .count();
     }
 
     @Override
@@ -0,0 +1,45 @@
+package com.product_information.pim.util;
+
+import com.product_information.pim.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque cursor tokens. The token currently
+ * carries the last seen product id; clients must treat it as opaque.
+ */
+public class CursorUtil {
+
+    private static final String ID_PREFIX = "id:";
+
+    private CursorUtil() {
+        // Utility class
+    }
+
+    public static String encode(Integer lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((ID_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the id to seek after; an empty cursor starts from the beginning.
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(ID_PREFIX)) {
+                throw new BusinessException("Invalid cursor: " + cursor);
+            }
+            return Integer.parseInt(decoded.substring(ID_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid cursor: " + cursor);
+        }
+    }
+}
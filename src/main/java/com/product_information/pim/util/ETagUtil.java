@@ -0,0 +1,24 @@
+package com.product_information.pim.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public class ETagUtil {
+
+    private ETagUtil() {
+        // Utility class
+    }
+
+    /**
+     * Builds a strong, quoted ETag from the given version components.
+     */
+    public static String of(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
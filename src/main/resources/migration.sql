@@ -12,3 +12,51 @@ ALTER TABLE product ALTER COLUMN brand_id DROP NOT NULL;
 
 -- Verify the changes
 \d product
+
+-- Full-text search column and index (required for pim.search.mode=FULL_TEXT)
+ALTER TABLE product ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(barcode, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_product_search_vector ON product USING GIN (search_vector);
+
+-- Attribute key/value filter index used by attr.<key>=<value> search filters.
+-- The value is hashed so long TEXT values do not exceed the btree row size.
+CREATE INDEX IF NOT EXISTS idx_product_attribute_key_value ON product_attribute(key, md5(value), product_id);
+
+-- Checkpoint table for the catalog-wide quality rescore job (POST /api/quality/rescore)
+CREATE TABLE IF NOT EXISTS quality_rescore_job (
+    id SERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    last_product_id INTEGER NOT NULL DEFAULT 0,
+    total_products BIGINT NOT NULL DEFAULT 0,
+    processed_products BIGINT NOT NULL DEFAULT 0,
+    error TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- Closure table for the category hierarchy, maintained by the application on create, move and delete
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id INTEGER NOT NULL,
+    descendant_id INTEGER NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES category(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES category(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON category_closure(descendant_id, depth);
+
+-- Populate it from the existing parent links
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM category
+    UNION ALL
+    SELECT t.ancestor_id, c.id, t.depth + 1 FROM tree t JOIN category c ON c.parent_category_id = t.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree
+ON CONFLICT DO NOTHING;
@@ -2,6 +2,8 @@
 -- PostgreSQL Database Schema
 
 -- Drop tables if exists
+DROP TABLE IF EXISTS quality_rescore_job CASCADE;
+DROP TABLE IF EXISTS category_closure CASCADE;
 DROP TABLE IF EXISTS product_image CASCADE;
 DROP TABLE IF EXISTS product_attribute CASCADE;
 DROP TABLE IF EXISTS quality CASCADE;
@@ -42,6 +44,11 @@ CREATE TABLE product (
     status VARCHAR(20) DEFAULT 'DRAFT' CHECK (status IN ('DRAFT', 'ACTIVE', 'ARCHIVED')),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(barcode, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED,
     FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE SET NULL,
     FOREIGN KEY (brand_id) REFERENCES brand(id) ON DELETE SET NULL
 );
@@ -76,17 +83,43 @@ CREATE TABLE product_image (
     FOREIGN KEY (product_id) REFERENCES product(id) ON DELETE CASCADE
 );
 
+-- Create Quality Rescore Job Table (checkpoint of catalog-wide rescoring)
+CREATE TABLE quality_rescore_job (
+    id SERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    last_product_id INTEGER NOT NULL DEFAULT 0,
+    total_products BIGINT NOT NULL DEFAULT 0,
+    processed_products BIGINT NOT NULL DEFAULT 0,
+    error TEXT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- Create Category Closure Table (one row per ancestor/descendant pair, including each category itself at depth 0)
+CREATE TABLE category_closure (
+    ancestor_id INTEGER NOT NULL,
+    descendant_id INTEGER NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES category(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES category(id) ON DELETE CASCADE
+);
+
 -- Create Indexes for Performance
 CREATE INDEX idx_product_barcode ON product(barcode);
 CREATE INDEX idx_product_category_id ON product(category_id);
 CREATE INDEX idx_product_brand_id ON product(brand_id);
 CREATE INDEX idx_product_status ON product(status);
+CREATE INDEX idx_product_search_vector ON product USING GIN (search_vector);
 CREATE INDEX idx_category_parent_id ON category(parent_category_id);
 CREATE INDEX idx_category_slug ON category(slug);
+CREATE INDEX idx_category_closure_descendant ON category_closure(descendant_id, depth);
 CREATE INDEX idx_brand_slug ON brand(slug);
 CREATE INDEX idx_quality_product_id ON quality(product_id);
 CREATE INDEX idx_product_attribute_product_id ON product_attribute(product_id);
 CREATE INDEX idx_product_attribute_key ON product_attribute(key);
+CREATE INDEX idx_product_attribute_key_value ON product_attribute(key, md5(value), product_id);
 CREATE INDEX idx_product_image_product_id ON product_image(product_id);
 
 -- Create function to update updated_at timestamp
@@ -0,0 +1,151 @@
+package com.product_information.pim.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the set-based category deletes against PostgreSQL, since they use
+ * UPDATE ... RETURNING. Skipped when Docker is not available.
+ *
+ * Fixture tree, with products in brackets:
+ * 1 [14] > 2 [10] > 3 [11] > 4 [12], 1 > 5 [13], and a second root 6.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CategoryClosureRepositoryTests {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private JdbcTemplate jdbcTemplate;
+	private CategoryClosureRepository repository;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+		// One multi-statement execute; the driver keeps the dollar-quoted trigger function intact
+		jdbcTemplate.execute(new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8));
+		repository = new CategoryClosureRepository(jdbcTemplate);
+
+		insertCategory(1, null);
+		insertCategory(2, 1);
+		insertCategory(3, 2);
+		insertCategory(4, 3);
+		insertCategory(5, 1);
+		insertCategory(6, null);
+		insertProduct(10, 2);
+		insertProduct(11, 3);
+		insertProduct(12, 4);
+		insertProduct(13, 5);
+		insertProduct(14, 1);
+	}
+
+	@Test
+	void deleteSubtreeRemovesDescendantsAndUnassignsTheirProducts() {
+		List<Integer> productIds = repository.deleteSubtree(2);
+
+		assertThat(productIds).containsExactlyInAnyOrder(10, 11, 12);
+		assertThat(categoryParents()).containsOnlyKeys(1, 5, 6);
+		assertThat(productCategories())
+				.containsEntry(10, null).containsEntry(11, null).containsEntry(12, null)
+				.containsEntry(13, 5).containsEntry(14, 1);
+		assertThat(closureRows()).containsExactlyInAnyOrder(
+				List.of(1, 1, 0), List.of(5, 5, 0), List.of(6, 6, 0),
+				List.of(1, 5, 1));
+	}
+
+	@Test
+	void deleteAndReassignMovesChildrenAndProductsToParent() {
+		List<Integer> productIds = repository.deleteAndReassign(2, 1);
+
+		assertThat(productIds).containsExactly(10);
+		assertThat(categoryParents())
+				.containsOnlyKeys(1, 3, 4, 5, 6)
+				.containsEntry(3, 1).containsEntry(4, 3);
+		assertThat(productCategories())
+				.containsEntry(10, 1).containsEntry(11, 3).containsEntry(12, 4)
+				.containsEntry(13, 5).containsEntry(14, 1);
+		assertThat(closureRows()).containsExactlyInAnyOrder(
+				List.of(1, 1, 0), List.of(3, 3, 0), List.of(4, 4, 0), List.of(5, 5, 0), List.of(6, 6, 0),
+				List.of(1, 3, 1), List.of(1, 4, 2), List.of(3, 4, 1), List.of(1, 5, 1));
+		assertClosureMatchesRebuild();
+	}
+
+	@Test
+	void deleteAndReassignOfRootMakesChildrenRootsAndUnassignsProducts() {
+		List<Integer> productIds = repository.deleteAndReassign(1, null);
+
+		assertThat(productIds).containsExactly(14);
+		assertThat(categoryParents())
+				.containsOnlyKeys(2, 3, 4, 5, 6)
+				.containsEntry(2, null).containsEntry(5, null).containsEntry(3, 2);
+		assertThat(productCategories())
+				.containsEntry(14, null).containsEntry(10, 2).containsEntry(13, 5);
+		assertThat(closureRows()).containsExactlyInAnyOrder(
+				List.of(2, 2, 0), List.of(3, 3, 0), List.of(4, 4, 0), List.of(5, 5, 0), List.of(6, 6, 0),
+				List.of(2, 3, 1), List.of(2, 4, 2), List.of(3, 4, 1));
+		assertClosureMatchesRebuild();
+	}
+
+	@Test
+	void deleteAndReassignOfLeafLeavesRestOfTreeUntouched() {
+		List<Integer> productIds = repository.deleteAndReassign(4, 3);
+
+		assertThat(productIds).containsExactly(12);
+		assertThat(productCategories()).containsEntry(12, 3);
+		assertThat(closureRows()).doesNotContain(List.of(1, 4, 3), List.of(4, 4, 0));
+		assertClosureMatchesRebuild();
+	}
+
+	private void assertClosureMatchesRebuild() {
+		List<List<Integer>> maintained = closureRows();
+		repository.rebuild();
+		assertThat(maintained).containsExactlyInAnyOrderElementsOf(closureRows());
+	}
+
+	private void insertCategory(int id, Integer parentId) {
+		jdbcTemplate.update("INSERT INTO category (id, parent_category_id, name, slug) VALUES (?, ?, ?, ?)",
+				id, parentId, "Category " + id, "category-" + id);
+		repository.insertNode(id, parentId);
+	}
+
+	private void insertProduct(int id, int categoryId) {
+		jdbcTemplate.update("INSERT INTO product (id, barcode, category_id) VALUES (?, ?, ?)",
+				id, "P-" + id, categoryId);
+	}
+
+	private Map<Integer, Integer> categoryParents() {
+		Map<Integer, Integer> parents = new HashMap<>();
+		jdbcTemplate.query("SELECT id, parent_category_id FROM category",
+				(RowCallbackHandler) rs -> parents.put(rs.getInt(1), (Integer) rs.getObject(2)));
+		return parents;
+	}
+
+	private Map<Integer, Integer> productCategories() {
+		Map<Integer, Integer> categories = new HashMap<>();
+		jdbcTemplate.query("SELECT id, category_id FROM product",
+				(RowCallbackHandler) rs -> categories.put(rs.getInt(1), (Integer) rs.getObject(2)));
+		return categories;
+	}
+
+	private List<List<Integer>> closureRows() {
+		return jdbcTemplate.query("SELECT ancestor_id, descendant_id, depth FROM category_closure",
+				(rs, rowNum) -> List.of(rs.getInt(1), rs.getInt(2), rs.getInt(3)));
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.product_information.pim.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product_information.pim.dto.request.ProductCreateRequest;
+import com.product_information.pim.dto.request.ProductImageRequest;
+import com.product_information.pim.enums.ProductStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportServiceImplTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void normalizesHeaderNamesButKeepsAttributeKeys() {
+		assertThat(ProductImportServiceImpl.normalizeColumn("\uFEFFBarcode")).isEqualTo("barcode");
+		assertThat(ProductImportServiceImpl.normalizeColumn(" Category_Id ")).isEqualTo("categoryid");
+		assertThat(ProductImportServiceImpl.normalizeColumn("Brand Id")).isEqualTo("brandid");
+		assertThat(ProductImportServiceImpl.normalizeColumn("ATTR.Screen Size")).isEqualTo("attr.Screen Size");
+	}
+
+	@Test
+	void mapsCsvColumnsToRequest() {
+		ProductCreateRequest request = csv(
+				List.of("Barcode", "Title", "Category Id", "brand_id", "Status", "Images", "attr.color", "id"),
+				List.of("B-1", "Shirt", "3", "null", "active", "a.jpg|b.jpg", "blue", "99"));
+
+		assertThat(request.getBarcode()).isEqualTo("B-1");
+		assertThat(request.getTitle()).isEqualTo("Shirt");
+		assertThat(request.getCategoryId()).isEqualTo(3);
+		assertThat(request.getBrandId()).isNull();
+		assertThat(request.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+		assertThat(request.getImages()).extracting(ProductImageRequest::getImageUrl).containsExactly("a.jpg", "b.jpg");
+		assertThat(request.getAttributes()).containsExactly(Map.entry("color", "blue"));
+	}
+
+	@Test
+	void leavesEmptyAndMissingCsvCellsUnset() {
+		ProductCreateRequest request = csv(
+				List.of("barcode", "title", "description", "status", "images"),
+				List.of("B-1", ""));
+
+		assertThat(request.getTitle()).isNull();
+		assertThat(request.getDescription()).isNull();
+		assertThat(request.getStatus()).isNull();
+		assertThat(request.getImages()).isNull();
+		assertThat(request.getAttributes()).isNull();
+	}
+
+	@Test
+	void keepsOnlyNonEmptyAttributeCells() {
+		ProductCreateRequest request = csv(
+				List.of("barcode", "attr.color", "attr.size"),
+				List.of("B-1", "", "XL"));
+
+		assertThat(request.getAttributes()).containsExactly(Map.entry("size", "XL"));
+	}
+
+	@Test
+	void treatsAllBlankAttributeCellsAsAbsentSection() {
+		ProductCreateRequest request = csv(
+				List.of("barcode", "attr.color", "attr.size"),
+				List.of("B-1", "", ""));
+
+		assertThat(request.getAttributes()).isNull();
+	}
+
+	@Test
+	void rejectsInvalidCsvStatus() {
+		assertThatThrownBy(() -> csv(List.of("barcode", "status"), List.of("B-1", "sold")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid status: sold");
+	}
+
+	@Test
+	void parsesIds() {
+		assertThat(ProductImportServiceImpl.parseId("category id", null)).isNull();
+		assertThat(ProductImportServiceImpl.parseId("category id", "null")).isNull();
+		assertThat(ProductImportServiceImpl.parseId("category id", " 12 ")).isEqualTo(12);
+		assertThatThrownBy(() -> ProductImportServiceImpl.parseId("brand id", "x1"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid brand id: x1");
+	}
+
+	@Test
+	void parsesImagesInOrderSkippingBlankUrls() {
+		List<ProductImageRequest> images = ProductImportServiceImpl.parseImages(" a.jpg || b.jpg | ");
+
+		assertThat(images).containsExactly(
+				new ProductImageRequest("a.jpg", null, 0),
+				new ProductImageRequest("b.jpg", null, 1));
+		assertThat(ProductImportServiceImpl.parseImages(" ")).isEmpty();
+		assertThat(ProductImportServiceImpl.parseImages(null)).isNull();
+	}
+
+	@Test
+	void parsesNdjsonLine() throws JsonProcessingException {
+		ProductCreateRequest request = ProductImportServiceImpl.toRequest(objectMapper,
+				"{\"barcode\":\"B-1\",\"status\":\"ARCHIVED\",\"attributes\":{\"color\":\"red\"},"
+						+ "\"images\":[{\"imageUrl\":\"a.jpg\",\"order\":0}]}");
+
+		assertThat(request.getBarcode()).isEqualTo("B-1");
+		assertThat(request.getStatus()).isEqualTo(ProductStatus.ARCHIVED);
+		assertThat(request.getAttributes()).containsExactly(Map.entry("color", "red"));
+		assertThat(request.getImages()).containsExactly(new ProductImageRequest("a.jpg", null, 0));
+	}
+
+	@Test
+	void leavesAbsentNdjsonStatusUnset() throws JsonProcessingException {
+		assertThat(ProductImportServiceImpl.toRequest(objectMapper, "{\"barcode\":\"B-1\"}").getStatus()).isNull();
+		assertThat(ProductImportServiceImpl.toRequest(objectMapper, "{\"barcode\":\"B-1\",\"status\":null}")
+				.getStatus()).isNull();
+	}
+
+	@Test
+	void rejectsInvalidNdjsonLine() {
+		assertThatThrownBy(() -> ProductImportServiceImpl.toRequest(objectMapper, "{\"barcode\":"))
+				.isInstanceOf(JsonProcessingException.class);
+	}
+
+	private static ProductCreateRequest csv(List<String> header, List<String> fields) {
+		List<String> columns = header.stream().map(ProductImportServiceImpl::normalizeColumn).toList();
+		return ProductImportServiceImpl.toRequest(columns, fields);
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.product_information.pim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTests {
+
+	@Test
+	void readsRecordsSeparatedByLineFeedOrCrLf() throws IOException {
+		assertThat(read("a,b\nc,d\r\ne,f")).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+	}
+
+	@Test
+	void readsEmptyFields() throws IOException {
+		assertThat(read(",x,\n")).containsExactly(List.of("", "x", ""));
+	}
+
+	@Test
+	void readsQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+		assertThat(read("\"a,b\",\"12\"\" screen\",\"two\r\nlines\"\nnext\n"))
+				.containsExactly(List.of("a,b", "12\" screen", "two\r\nlines"), List.of("next"));
+	}
+
+	@Test
+	void readsQuotedFieldAtEndOfInput() throws IOException {
+		assertThat(read("a,\"b\"")).containsExactly(List.of("a", "b"));
+	}
+
+	@Test
+	void readsBlankLineAsSingleEmptyField() throws IOException {
+		assertThat(read("a\n\nb\n")).containsExactly(List.of("a"), List.of(""), List.of("b"));
+	}
+
+	@Test
+	void returnsNullAtEndOfInput() throws IOException {
+		try (CsvReader reader = new CsvReader(new StringReader(""))) {
+			assertThat(reader.readRecord()).isNull();
+		}
+		try (CsvReader reader = new CsvReader(new StringReader("a\n"))) {
+			assertThat(reader.readRecord()).containsExactly("a");
+			assertThat(reader.readRecord()).isNull();
+		}
+	}
+
+	@Test
+	void readsWhatCsvWriterWrites() throws IOException {
+		List<String> fields = List.of("plain", "a,b", "say \"hi\"", "line\nbreak", "");
+		StringWriter out = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(out)) {
+			writer.writeRecord(fields);
+		}
+
+		assertThat(read(out.toString())).containsExactly(fields);
+	}
+
+	private static List<List<String>> read(String input) throws IOException {
+		List<List<String>> records = new ArrayList<>();
+		try (CsvReader reader = new CsvReader(new StringReader(input))) {
+			List<String> record;
+			while ((record = reader.readRecord()) != null) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+}
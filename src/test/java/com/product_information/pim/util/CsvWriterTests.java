@@ -0,0 +1,49 @@
+package com.product_information.pim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTests {
+
+	@Test
+	void writesPlainFieldsUnquoted() throws IOException {
+		assertThat(write(List.of("SKU-1", 42, "Blue shirt"))).isEqualTo("SKU-1,42,Blue shirt\r\n");
+	}
+
+	@Test
+	void writesNullAsEmptyField() throws IOException {
+		assertThat(write(Arrays.asList("a", null, "c"))).isEqualTo("a,,c\r\n");
+	}
+
+	@Test
+	void quotesFieldsWithCommaQuoteOrLineBreak() throws IOException {
+		assertThat(write(List.of("a,b"))).isEqualTo("\"a,b\"\r\n");
+		assertThat(write(List.of("line\nbreak"))).isEqualTo("\"line\nbreak\"\r\n");
+		assertThat(write(List.of("carriage\rreturn"))).isEqualTo("\"carriage\rreturn\"\r\n");
+	}
+
+	@Test
+	void doublesEmbeddedQuotes() throws IOException {
+		assertThat(write(List.of("12\" screen", "x"))).isEqualTo("\"12\"\" screen\",x\r\n");
+	}
+
+	@Test
+	void writesEmptyStringAsEmptyField() throws IOException {
+		assertThat(write(List.of("", "b"))).isEqualTo(",b\r\n");
+	}
+
+	private static String write(List<?> fields) throws IOException {
+		StringWriter out = new StringWriter();
+		try (CsvWriter writer = new CsvWriter(out)) {
+			writer.writeRecord(fields);
+		}
+		return out.toString();
+	}
+
+}
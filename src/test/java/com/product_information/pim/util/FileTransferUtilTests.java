@@ -0,0 +1,155 @@
+package com.product_information.pim.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileTransferUtilTests {
+
+	private static final String CONTENT = "0123456789";
+
+	@TempDir
+	Path directory;
+
+	private Path file;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		file = Files.writeString(directory.resolve("export.csv"), CONTENT, StandardCharsets.US_ASCII);
+	}
+
+	@Test
+	void sendsWholeFileWithoutRange() throws IOException {
+		MockHttpServletResponse response = send(new MockHttpServletRequest());
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+		assertThat(response.getContentLengthLong()).isEqualTo(10);
+		assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void sendsClosedRange() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=2-5"));
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+		assertThat(response.getContentLengthLong()).isEqualTo(4);
+		assertThat(response.getContentAsString()).isEqualTo("2345");
+	}
+
+	@Test
+	void sendsRangeFromStartToEndOfFile() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=7-"));
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+		assertThat(response.getContentAsString()).isEqualTo("789");
+	}
+
+	@Test
+	void sendsSuffixRange() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=-3"));
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+		assertThat(response.getContentAsString()).isEqualTo("789");
+	}
+
+	@Test
+	void clampsRangeEndToFileSize() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=8-100"));
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 8-9/10");
+		assertThat(response.getContentAsString()).isEqualTo("89");
+	}
+
+	@Test
+	void rejectsRangeStartingPastEndOfFile() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=10-"));
+
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void rejectsMalformedRange() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=5-2"));
+
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+	}
+
+	@Test
+	void sendsWholeFileForSeveralRanges() throws IOException {
+		MockHttpServletResponse response = send(rangeRequest("bytes=0-1,4-5"));
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void honoursRangeWhenIfRangeMatches() throws IOException {
+		String eTag = send(new MockHttpServletRequest()).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = rangeRequest("bytes=2-5");
+		request.addHeader(HttpHeaders.IF_RANGE, eTag);
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getContentAsString()).isEqualTo("2345");
+	}
+
+	@Test
+	void ignoresRangeWhenIfRangeIsStale() throws IOException {
+		MockHttpServletRequest request = rangeRequest("bytes=2-5");
+		request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void handsRangeToSendfileWhenSupported() throws IOException {
+		MockHttpServletRequest request = rangeRequest("bytes=2-5");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+				.isEqualTo(file.toAbsolutePath().toString());
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FileTransferUtil.send(file, MediaType.parseMediaType("text/csv"), request, response);
+		return response;
+	}
+
+	private static MockHttpServletRequest rangeRequest(String range) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, range);
+		return request;
+	}
+
+}